@@ -177,6 +177,37 @@ public interface NaturalIdMultiLoadAccess<T> {
 	 */
 	List<T> multiLoad(List<?> ids);
 
+	/**
+	 * Resolve the given natural id values to identifiers, without loading the
+	 * entities, so that later loads and references by any of these natural ids
+	 * from this session do not need to query the database for the identifier.
+	 * The natural ids which are not already resolved by this session, or by the
+	 * second-level cache, are resolved by as few queries as the
+	 * {@linkplain #withBatchSize batch size} allows.
+	 * <p>
+	 * The resolutions are also put in the natural id cache region, if any, and
+	 * the natural ids which do not exist are remembered as such, when
+	 * {@value org.hibernate.cfg.CacheSettings#NATURAL_ID_MISS_CACHE_TTL} is
+	 * enabled.
+	 *
+	 * @param ids The natural id values to resolve
+	 *
+	 * @since 7.0
+	 */
+	void preloadResolutions(Object... ids);
+
+	/**
+	 * Resolve the given natural id values to identifiers, without loading the
+	 * entities.
+	 *
+	 * @param ids The natural id values to resolve
+	 *
+	 * @see #preloadResolutions(Object...)
+	 *
+	 * @since 7.0
+	 */
+	void preloadResolutions(List<?> ids);
+
 	/**
 	 * Helper for creating a {@link Map} that represents the value of a
 	 * composite natural id. An even number of arguments is expected,
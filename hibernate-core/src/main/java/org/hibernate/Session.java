@@ -6,6 +6,7 @@
  */
 package org.hibernate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -355,6 +356,29 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void setSubselectFetchingEnabled(boolean enabled);
 
+	/**
+	 * Fetch, up front, the associations reachable from the given managed
+	 * entities by the given attribute paths, so that navigating them later
+	 * does not hit the database. Each path is a dot-separated list of names
+	 * of association attributes, for example, {@code "books.publisher"}.
+	 * <p>
+	 * The paths are fetched one level at a time. At each level, the lazy
+	 * associations of all the entities reached so far are batch fetched,
+	 * by one query for each entity type, and one query for each collection
+	 * role, as long as the dialect accepts all the keys in one query. The
+	 * batch sizes of the entity types and collection roles fetched this way
+	 * are overridden only while they are fetched, and are restored when this
+	 * method returns.
+	 *
+	 * @param entities managed entities, or proxies
+	 * @param attributePaths the paths of the associations to fetch
+	 *
+	 * @throws IllegalArgumentException if a path does not name an association
+	 *
+	 * @since 7.0
+	 */
+	void prefetch(Collection<?> entities, String... attributePaths);
+
 	/**
 	 * Get the session factory which created this session.
 	 *
@@ -680,6 +704,31 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void persist(String entityName, Object object);
 
+	/**
+	 * Make each of the given transient instances persistent, as if by calling
+	 * {@link #persist(Object)} for each of them. The instances are grouped by
+	 * entity, and the instances of each entity are persisted in iteration order,
+	 * so that their insertions are consecutive, and can be batched.
+	 * <p>
+	 * This is more efficient than calling {@code persist()} in a loop, since the
+	 * checks performed before and after each operation are performed only once,
+	 * and since cascading is tracked across all the given instances, so that an
+	 * instance reachable from many of the given instances, for example, a parent
+	 * of many children, is visited just once.
+	 * <p>
+	 * The insertions of instances whose identifiers are generated by identity
+	 * columns are executed together, once all the instances were persisted, by
+	 * multi-row inserts where
+	 * {@linkplain org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS enabled}
+	 * and supported, instead of one at a time. Their identifiers are assigned
+	 * when this method returns.
+	 *
+	 * @param objects the transient instances to be made persistent
+	 *
+	 * @since 7.0
+	 */
+	void persistAll(Collection<?> objects);
+
 	/**
 	 * Obtain the specified lock level on the given managed instance associated
 	 * with this session. This operation may be used to:
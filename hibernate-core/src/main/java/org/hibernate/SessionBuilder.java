@@ -97,6 +97,30 @@ public interface SessionBuilder {
 	 */
 	SessionBuilder autoClear(boolean autoClear);
 
+	/**
+	 * Specify a maximum number of entities which may be associated with the
+	 * persistence context of the opened session before it is automatically
+	 * {@linkplain Session#flush() flushed} and {@linkplain Session#clear() cleared}.
+	 * <p>
+	 * This automates the usual idiom of calling {@code flush()} and {@code clear()}
+	 * every so many entities in a batch process. The threshold is only checked at
+	 * the start of a top-level {@link Session#persist(Object) persist()} operation,
+	 * and only when a transaction is in progress, so that the instance passed to
+	 * {@code persist()} always remains associated with the session. Note that every
+	 * other entity which was associated with the session becomes detached when the
+	 * threshold is reached.
+	 *
+	 * @param managedEntityThreshold The number of managed entities which triggers a
+	 * flush and clear, or a non-positive number to disable this behavior (the default)
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.stat.Statistics#getAutoFlushAndClearCount()
+	 *
+	 * @since 7.0
+	 */
+	SessionBuilder autoFlushAndClear(int managedEntityThreshold);
+
 	/**
 	 * Specify the initial FlushMode to use for the opened Session
 	 *
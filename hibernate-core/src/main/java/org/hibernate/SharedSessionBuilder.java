@@ -82,6 +82,9 @@ public interface SharedSessionBuilder extends SessionBuilder {
 	@Override
 	SharedSessionBuilder autoClear(boolean autoClear);
 
+	@Override
+	SharedSessionBuilder autoFlushAndClear(int managedEntityThreshold);
+
 	@Override
 	SharedSessionBuilder flushMode(FlushMode flushMode);
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -176,6 +178,83 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records, in the order given.
+	 * <p>
+	 * Within a transaction, the inserts are executed as JDBC batches of
+	 * up to 100 rows, or of the configured batch size if it is larger,
+	 * and the last batch is executed before this method returns.
+	 * Consecutive instances of the same entity type share a batch, so
+	 * the list should be grouped by type, respecting the order required
+	 * by foreign key constraints.
+	 * <p>
+	 * When {@value org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS}
+	 * is enabled, consecutive instances of an entity with an identifier
+	 * generated by the database are inserted by a single multi-row
+	 * {@code insert} statement, if the dialect supports it.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @see #insert(Object)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple records, in the order given.
+	 * <p>
+	 * Within a transaction, the updates are executed as JDBC batches of
+	 * up to 100 rows, or of the configured batch size if it is larger,
+	 * and the last batch is executed before this method returns.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #update(Object)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple records, in the order given.
+	 * <p>
+	 * Within a transaction, the deletes are executed as JDBC batches of
+	 * up to 100 rows, or of the configured batch size if it is larger,
+	 * and the last batch is executed before this method returns.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #delete(Object)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Upsert multiple records, in the order given.
+	 * <p>
+	 * Within a transaction, the upserts are executed as JDBC batches of
+	 * up to 100 rows, or of the configured batch size if it is larger,
+	 * and the last batch is executed before this method returns. When
+	 * {@value org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS}
+	 * is enabled, and the dialect executes upserts using {@code merge},
+	 * the rows of each batch are merged by a single {@code merge}
+	 * statement.
+	 *
+	 * @param entities a list of detached entity instances, or new
+	 *                 instances with assigned identifiers
+	 *
+	 * @see #upsert(Object)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a record.
 	 *
@@ -218,6 +297,23 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple records, by a single query, or by one query per
+	 * chunk of ids if the ids exceed the parameter limit of the database.
+	 * <p>
+	 * The returned list has the same size and order as the given list
+	 * of ids, with a null element for each id with no matching record.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return a list of detached entity instances
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Retrieve a record, fetching associations specified by the
 	 * given {@link EntityGraph}.
@@ -63,4 +63,32 @@ public interface StatelessSessionBuilder {
 	 * @return {@code this}, for method chaining
 	 */
 	StatelessSessionBuilder statementInspector(StatementInspector statementInspector);
+
+	/**
+	 * Specify that the stateless session is read-only, which is intended for
+	 * read-heavy request handling which needs neither the dirty checking of a
+	 * {@link Session} nor the ability to write data.
+	 * <p>
+	 * A read-only stateless session rejects {@code insert()}, {@code update()},
+	 * {@code upsert()}, and {@code delete()}, along with the execution of any
+	 * {@linkplain org.hibernate.query.MutationQuery mutation query}, whether written
+	 * in HQL or in native SQL, with an {@link UnsupportedOperationException}.
+	 * In exchange, it maintains a bounded identity map of weak references to the
+	 * entities it has obtained by {@link StatelessSession#get(Class, Object) get()}
+	 * and {@link StatelessSession#getMultiple(Class, java.util.List) getMultiple()},
+	 * so that these operations, the resolution of associations to entities which are
+	 * not fetched by the same query, and {@link StatelessSession#fetch(Object) fetch()},
+	 * return an instance already obtained by the session, instead of repeating the
+	 * same SQL query, or of returning an uninitialized proxy. Entities returned by
+	 * queries are not remembered. Unlike the
+	 * persistence context of a {@code Session}, this identity map retains no snapshot
+	 * of entity state and never prevents an entity from being garbage collected.
+	 *
+	 * @param readOnly Whether the stateless session is read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 7.0
+	 */
+	StatelessSessionBuilder readOnly(boolean readOnly);
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -145,6 +148,60 @@ public class EntityDeleteAction extends EntityAction {
 		}
 	}
 
+	/**
+	 * Can this deletion be combined with deletions of other instances of the
+	 * same entity into a {@linkplain #executeBulk bulk delete}? That is, does
+	 * it have no side effects other than the removal of the row?
+	 */
+	public boolean isBulkDeletable() {
+		return !isCascadeDeleteEnabled
+			&& getFastSessionServices().eventListenerGroup_PRE_DELETE.isEmpty()
+			&& getFastSessionServices().eventListenerGroup_POST_DELETE.isEmpty();
+	}
+
+	/**
+	 * Perform the given {@linkplain #isBulkDeletable bulk deletable} deletions of
+	 * instances of the same entity using a single statement, if possible.
+	 *
+	 * @see org.hibernate.persister.entity.mutation.DeleteCoordinator#deleteMultiple
+	 */
+	public static void executeBulk(List<? extends EntityDeleteAction> actions) {
+		final EntityDeleteAction first = actions.get( 0 );
+		final EntityPersister persister = first.getPersister();
+		final SharedSessionContractImplementor session = first.getSession();
+
+		final Object[] cacheKeys = new Object[actions.size()];
+		final List<Object> ids = new ArrayList<>( actions.size() );
+		for ( int i = 0; i < actions.size(); i++ ) {
+			final EntityDeleteAction action = actions.get( i );
+			assert action.getPersister() == persister && action.isBulkDeletable();
+			cacheKeys[i] = action.lockCacheItem();
+			ids.add( action.getId() );
+		}
+
+		if ( !persister.getDeleteCoordinator().deleteMultiple( ids, session ) ) {
+			for ( EntityDeleteAction action : actions ) {
+				persister.getDeleteCoordinator()
+						.delete( action.getInstance(), action.getId(), action.getCurrentVersion(), session );
+			}
+		}
+
+		// evict the deleted instances from the second-level cache in one pass
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		for ( int i = 0; i < actions.size(); i++ ) {
+			final EntityDeleteAction action = actions.get( i );
+			if ( action.isInstanceLoaded() ) {
+				action.postDeleteLoaded( action.getId(), persister, session, action.getInstance(), cacheKeys[i] );
+			}
+			else {
+				action.postDeleteUnloaded( action.getId(), persister, session, cacheKeys[i] );
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.deleteEntity( persister.getEntityName() );
+			}
+		}
+	}
+
 	protected Object getCurrentVersion() {
 		return getPersister().isVersionPropertyGenerated()
 						// skip if we're deleting an unloaded proxy, no need for the version
@@ -6,6 +6,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.EntityKey;
@@ -20,8 +23,12 @@ import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.InsertCoordinator;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 
 /**
@@ -72,21 +79,75 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 	public void execute() throws HibernateException {
 		nullifyTransientReferencesIfNotAlready();
 
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
-
 		setVeto( preInsert() );
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
+		afterInsert( isVeto() ? null : getPersister().getInsertCoordinator().insert( getInstance(), getState(), getSession() ) );
+	}
+
+	/**
+	 * Can this insertion be executed together with other delayed insertions
+	 * of the same entity by {@link #executeMultiple}?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public boolean isMultipleInsertable() {
+		return isDelayed && getPersister().getInsertCoordinator().supportsInsertMultiple();
+	}
+
+	/**
+	 * Execute the given delayed insertions of instances of the same entity,
+	 * using a single multi-row insert when possible.
+	 *
+	 * @see org.hibernate.persister.entity.mutation.InsertCoordinator#insertMultiple
+	 */
+	public static void executeMultiple(List<? extends EntityIdentityInsertAction> actions) {
+		final EntityIdentityInsertAction first = actions.get( 0 );
+		final SharedSessionContractImplementor session = first.getSession();
+		final InsertCoordinator insertCoordinator = first.getPersister().getInsertCoordinator();
+
+		final List<Object> instances = new ArrayList<>( actions.size() );
+		final List<Object[]> states = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.nullifyTransientReferencesIfNotAlready();
+			action.setVeto( action.preInsert() );
+			if ( !action.isVeto() ) {
+				instances.add( action.getInstance() );
+				states.add( action.getState() );
+			}
+		}
+
+		final List<GeneratedValues> generatedValues = instances.isEmpty()
+				? emptyList()
+				: insertCoordinator.insertMultiple( instances, states, session );
+		int position = 0;
+		for ( EntityIdentityInsertAction action : actions ) {
+			if ( action.isVeto() ) {
+				action.afterInsert( null );
+			}
+			else if ( generatedValues == null ) {
+				// nothing was inserted, insert them one at a time
+				action.afterInsert( insertCoordinator.insert( action.getInstance(), action.getState(), session ) );
+			}
+			else {
+				action.afterInsert( generatedValues.get( position++ ) );
+			}
+		}
+	}
+
+	/**
+	 * Assign the generated identifier, and fire the post-insert events.
+	 *
+	 * @param generatedValues The generated values, or {@code null} if the insertion was vetoed
+	 */
+	private void afterInsert(@Nullable GeneratedValues generatedValues) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+
 		if ( !isVeto() ) {
-			final GeneratedValues generatedValues = persister.getInsertCoordinator().insert(
-					instance,
-					getState(),
-					session
-			);
 			generatedId = castNonNull( generatedValues ).getGeneratedValue( persister.getIdentifierMapping() );
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 			if ( persister.getRowIdMapping() != null ) {
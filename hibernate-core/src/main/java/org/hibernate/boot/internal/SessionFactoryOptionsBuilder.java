@@ -82,6 +82,9 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_BULK_DELETES;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.BATCH_MULTI_ROW_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
@@ -95,6 +98,7 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
+import static org.hibernate.cfg.AvailableSettings.ENTITY_GRAPH_COLLECTION_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
@@ -107,6 +111,8 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_BATCH_FETCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_DETECTION_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
@@ -203,6 +209,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private int nPlusOneDetectionThreshold;
+	private int nPlusOneBatchFetchSize;
+	private int entityGraphCollectionBatchSize;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
@@ -252,6 +261,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean jdbcBatchMultiRowInserts;
+	private boolean jdbcBatchIdentityInserts;
+	private boolean jdbcBatchBulkDeletes;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
@@ -380,6 +392,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
+		this.nPlusOneDetectionThreshold = getInt( N_PLUS_ONE_DETECTION_THRESHOLD, configurationSettings, 0 );
+		this.nPlusOneBatchFetchSize = getInt( N_PLUS_ONE_BATCH_FETCH_SIZE, configurationSettings, 0 );
+		this.entityGraphCollectionBatchSize = getInt( ENTITY_GRAPH_COLLECTION_BATCH_SIZE, configurationSettings, 0 );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 
 		final Object defaultNullPrecedence = configurationSettings.get( DEFAULT_NULL_ORDERING );
@@ -527,6 +542,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.jdbcBatchMultiRowInserts = getBoolean( BATCH_MULTI_ROW_INSERTS, configurationSettings );
+		this.jdbcBatchIdentityInserts = getBoolean( BATCH_IDENTITY_INSERTS, configurationSettings );
+		this.jdbcBatchBulkDeletes = getBoolean( BATCH_BULK_DELETES, configurationSettings );
 		this.scrollableResultSetsEnabled = getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -1041,6 +1059,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public int getNPlusOneDetectionThreshold() {
+		return nPlusOneDetectionThreshold;
+	}
+
+	@Override
+	public int getNPlusOneBatchFetchSize() {
+		return nPlusOneBatchFetchSize;
+	}
+
+	@Override
+	public int getEntityGraphCollectionBatchSize() {
+		return entityGraphCollectionBatchSize;
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -1136,6 +1169,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchMultiRowInserts() {
+		return jdbcBatchMultiRowInserts;
+	}
+
+	@Override
+	public boolean isJdbcBatchIdentityInserts() {
+		return jdbcBatchIdentityInserts;
+	}
+
+	@Override
+	public boolean isJdbcBatchBulkDeletes() {
+		return jdbcBatchBulkDeletes;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -189,6 +189,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public int getNPlusOneDetectionThreshold() {
+		return delegate.getNPlusOneDetectionThreshold();
+	}
+
+	@Override
+	public int getNPlusOneBatchFetchSize() {
+		return delegate.getNPlusOneBatchFetchSize();
+	}
+
+	@Override
+	public int getEntityGraphCollectionBatchSize() {
+		return delegate.getEntityGraphCollectionBatchSize();
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -299,6 +314,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchMultiRowInserts() {
+		return delegate.isJdbcBatchMultiRowInserts();
+	}
+
+	@Override
+	public boolean isJdbcBatchIdentityInserts() {
+		return delegate.isJdbcBatchIdentityInserts();
+	}
+
+	@Override
+	public boolean isJdbcBatchBulkDeletes() {
+		return delegate.isJdbcBatchBulkDeletes();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -143,6 +143,33 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	default int getNPlusOneDetectionThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getNPlusOneBatchFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#ENTITY_GRAPH_COLLECTION_BATCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getEntityGraphCollectionBatchSize() {
+		return 0;
+	}
+
 	Nulls getDefaultNullPrecedence();
 
 	boolean isOrderUpdatesEnabled();
@@ -182,6 +209,33 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcBatchMultiRowInserts() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcBatchIdentityInserts() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_BULK_DELETES
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcBatchBulkDeletes() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
@@ -11,6 +11,7 @@ import java.util.Set;
 
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.NaturalIdMissCache;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
@@ -89,17 +90,29 @@ public class DisabledCaching implements CacheImplementor {
 
 	@Override
 	public void evictNaturalIdData(Class<?> entityClass) {
-		// nothing to do
+		evictNaturalIdData( entityClass.getName() );
 	}
 
 	@Override
 	public void evictNaturalIdData(String entityName) {
-		// nothing to do
+		// there is no natural-id region, but there might be remembered misses
+		final NaturalIdMissCache missCache = sessionFactory.getServiceRegistry().getService( NaturalIdMissCache.class );
+		if ( missCache != null ) {
+			missCache.evict( sessionFactory.getMappingMetamodel().getEntityDescriptor( entityName ) );
+		}
 	}
 
 	@Override
 	public void evictNaturalIdData() {
-		// nothing to do
+		final NaturalIdMissCache missCache = sessionFactory.getServiceRegistry().getService( NaturalIdMissCache.class );
+		if ( missCache != null ) {
+			missCache.clear();
+		}
+	}
+
+	@Override
+	public void evictAll() {
+		evictNaturalIdData();
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.NaturalIdMissCache;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
@@ -317,6 +318,13 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		cacheAccess.evictAll();
 	}
 
+	@Override
+	public void evictAll() {
+		evictEntityData();
+		// rows might have been inserted behind our back, so forget the misses too
+		evictNaturalIdMisses();
+	}
+
 	@Override
 	public void evictEntityData() {
 		final MappingMetamodelImplementor mappingMetamodel = sessionFactory
@@ -342,6 +350,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
 		evictNaturalIdData( entityDescriptor );
+		final NaturalIdMissCache missCache = naturalIdMissCache();
+		if ( missCache != null ) {
+			missCache.evict( entityDescriptor );
+		}
 	}
 
 	private void evictNaturalIdData(EntityPersister rootEntityDescriptor) {
@@ -351,6 +363,19 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	@Override
 	public void evictNaturalIdData() {
 		naturalIdAccessMap.forEach( this::evictNaturalIdData );
+		evictNaturalIdMisses();
+	}
+
+	private void evictNaturalIdMisses() {
+		final NaturalIdMissCache missCache = naturalIdMissCache();
+		if ( missCache != null ) {
+			LOG.debug( "Evicting natural-id misses" );
+			missCache.clear();
+		}
+	}
+
+	private NaturalIdMissCache naturalIdMissCache() {
+		return sessionFactory.getServiceRegistry().getService( NaturalIdMissCache.class );
 	}
 
 	private void evictNaturalIdData(NavigableRole rootEntityRole, NaturalIdDataAccess cacheAccess) {
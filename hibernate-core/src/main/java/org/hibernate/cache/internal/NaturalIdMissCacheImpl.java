@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.NaturalIdMissCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Standard {@link NaturalIdMissCache} implementation, keeping the misses,
+ * keyed like the natural-id cache region, along with their expiry time, in
+ * a map ordered by access, so that the least recently used entry is dropped
+ * when the map is full
+ */
+public class NaturalIdMissCacheImpl implements NaturalIdMissCache {
+	private final long timeToLiveNanos;
+	private final int maxEntries;
+	private final LinkedHashMap<NaturalIdCacheKey, Long> expiryByKey;
+
+	public NaturalIdMissCacheImpl(long timeToLiveMillis, int maxEntries) {
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( Math.max( timeToLiveMillis, 0 ) );
+		this.maxEntries = maxEntries;
+		this.expiryByKey = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<NaturalIdCacheKey, Long> eldest) {
+				return size() > NaturalIdMissCacheImpl.this.maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return timeToLiveNanos > 0 && maxEntries > 0;
+	}
+
+	@Override
+	public boolean isKnownMiss(Object naturalId, EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( !isEnabled() ) {
+			return false;
+		}
+		final NaturalIdCacheKey key = NaturalIdCacheKey.from( naturalId, persister, session );
+		synchronized ( expiryByKey ) {
+			final Long expiry = expiryByKey.get( key );
+			if ( expiry == null ) {
+				return false;
+			}
+			else if ( expiry - System.nanoTime() > 0 ) {
+				return true;
+			}
+			else {
+				expiryByKey.remove( key );
+				return false;
+			}
+		}
+	}
+
+	@Override
+	public void recordMiss(Object naturalId, EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( isEnabled() ) {
+			final NaturalIdCacheKey key = NaturalIdCacheKey.from( naturalId, persister, session );
+			final long expiry = System.nanoTime() + timeToLiveNanos;
+			synchronized ( expiryByKey ) {
+				expiryByKey.put( key, expiry );
+			}
+		}
+	}
+
+	@Override
+	public void evict(Object naturalId, EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( isEnabled() ) {
+			final NaturalIdCacheKey key = NaturalIdCacheKey.from( naturalId, persister, session );
+			synchronized ( expiryByKey ) {
+				expiryByKey.remove( key );
+			}
+		}
+	}
+
+	@Override
+	public void evict(EntityPersister persister) {
+		final String rootEntityName = persister.getRootEntityName();
+		synchronized ( expiryByKey ) {
+			expiryByKey.keySet().removeIf( key -> key.getEntityName().equals( rootEntityName ) );
+		}
+	}
+
+	@Override
+	public void clear() {
+		synchronized ( expiryByKey ) {
+			expiryByKey.clear();
+		}
+	}
+}
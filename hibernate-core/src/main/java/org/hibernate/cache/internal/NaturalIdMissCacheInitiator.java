@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.cache.spi.NaturalIdMissCache;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * Initiator for {@link NaturalIdMissCacheImpl}, configured by
+ * {@value CacheSettings#NATURAL_ID_MISS_CACHE_TTL} and
+ * {@value CacheSettings#NATURAL_ID_MISS_CACHE_MAX_ENTRIES}. The misses are
+ * remembered per {@code SessionFactory}.
+ */
+public class NaturalIdMissCacheInitiator implements SessionFactoryServiceInitiator<NaturalIdMissCache> {
+	/**
+	 * Singleton access
+	 */
+	public static final NaturalIdMissCacheInitiator INSTANCE = new NaturalIdMissCacheInitiator();
+
+	@Override
+	public NaturalIdMissCache initiateService(SessionFactoryServiceInitiatorContext context) {
+		final Map<String, Object> configurationValues =
+				context.getServiceRegistry().requireService( ConfigurationService.class ).getSettings();
+		return new NaturalIdMissCacheImpl(
+				getLong( CacheSettings.NATURAL_ID_MISS_CACHE_TTL, configurationValues, 0 ),
+				getInt( CacheSettings.NATURAL_ID_MISS_CACHE_MAX_ENTRIES, configurationValues, 10_000 )
+		);
+	}
+
+	@Override
+	public Class<NaturalIdMissCache> getServiceInitiated() {
+		return NaturalIdMissCache.class;
+	}
+}
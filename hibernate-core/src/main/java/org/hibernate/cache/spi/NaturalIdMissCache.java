@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.Service;
+
+/**
+ * Remembers, for a bounded time, the natural-id values which did not match
+ * any row when they were resolved against the database, so that repeated
+ * lookups of non-existing natural-ids do not each query the database.
+ * <p>
+ * This is a {@linkplain org.hibernate.service.spi.SessionFactoryServiceRegistry
+ * service of the SessionFactory}, and is cleared by
+ * {@link org.hibernate.Cache#evictNaturalIdData()}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_MISS_CACHE_TTL
+ *
+ * @since 7.0
+ */
+public interface NaturalIdMissCache extends Service {
+	/**
+	 * Whether misses are remembered at all
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Whether the given natural-id value is known not to match any row
+	 */
+	boolean isKnownMiss(Object naturalId, EntityPersister persister, SharedSessionContractImplementor session);
+
+	/**
+	 * Remember that the given natural-id value did not match any row
+	 */
+	void recordMiss(Object naturalId, EntityPersister persister, SharedSessionContractImplementor session);
+
+	/**
+	 * Forget about the given natural-id value, because an entity with that
+	 * natural-id may now exist
+	 */
+	void evict(Object naturalId, EntityPersister persister, SharedSessionContractImplementor session);
+
+	/**
+	 * Forget about all the natural-id values of the given entity
+	 */
+	void evict(EntityPersister persister);
+
+	/**
+	 * Forget about all the natural-id values
+	 */
+	void clear();
+}
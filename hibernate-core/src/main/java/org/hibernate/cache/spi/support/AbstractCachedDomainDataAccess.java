@@ -55,6 +55,11 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
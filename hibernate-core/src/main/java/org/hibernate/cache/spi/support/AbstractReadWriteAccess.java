@@ -7,6 +7,7 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.UUID;
@@ -99,6 +100,32 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Returns <code>null</code> for each item which is not readable, as {@link #get}.
+	 */
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), Arrays.toString( keys ) );
+		}
+		try {
+			readLock.lock();
+			final Object[] items = getStorageAccess().getAllFromCache( keys, session );
+			final long cachingTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Object[] values = new Object[keys.length];
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Lockable item = (Lockable) items[i];
+				if ( item != null && item.isReadable( cachingTimestamp ) ) {
+					values[i] = item.getValue();
+				}
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -65,6 +65,125 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, batched inserts into a single table are executed as a single
+	 * {@code insert ... values (...), (...), ...} statement per batch, instead of
+	 * relying on the JDBC driver to rewrite {@linkplain PreparedStatement#addBatch
+	 * batched statements}.
+	 * <p/>
+	 * The number of rows per statement is limited by the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter limit}
+	 * of the Dialect. Has no effect unless batching is enabled via {@link #STATEMENT_BATCH_SIZE},
+	 * or when the Dialect does not {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert
+	 * support} multi-row {@code values} lists.
+	 * <p/>
+	 * Batched {@linkplain org.hibernate.StatelessSession#upsert upserts} executed as a
+	 * {@code merge} statement are likewise combined into a single {@code merge} per
+	 * batch, whose source is the {@code union all} of the rows.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, together with {@link #BATCH_MULTI_ROW_INSERTS}, the insertion
+	 * of an entity whose identifier is generated by an {@code identity} column is
+	 * no longer executed immediately when the entity is
+	 * {@linkplain org.hibernate.Session#persist persisted}, but delayed until the
+	 * session is flushed, like any other insertion. Consecutive delayed insertions
+	 * of the same entity are then executed as a single multi-row
+	 * {@code insert ... values (...), (...), ...} statement, whose generated
+	 * identifiers are assigned to the instances in order.
+	 * <p/>
+	 * The identifier of such an instance is only available once the session was
+	 * flushed. Enabling {@value #ORDER_INSERTS} makes the insertions of the same
+	 * entity consecutive. Only applies when the Dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsOrderedValuesListInsertReturning
+	 * returns the generated identifiers in the order of the rows}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
+	/**
+	 * When enabled, a full JDBC batch is {@linkplain PreparedStatement#executeBatch executed}
+	 * by a helper thread, while the session thread goes on collecting the parameter
+	 * bindings of the next batch, overlapping the round trip to the database with the
+	 * work of the flush.
+	 * <p/>
+	 * The connection is never used by two threads at the same time: the parameter
+	 * bindings are applied to the statement by the session thread before the batch
+	 * is handed off, the helper thread only executes the batch, and any other use
+	 * of the connection waits for the pending batch to complete. An
+	 * exception thrown by the execution of the batch is rethrown by the next operation
+	 * of the session which uses the batch or the connection.
+	 * <p/>
+	 * Has no effect unless batching is enabled via {@link #STATEMENT_BATCH_SIZE}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When enabled, consecutive deletions of instances of the same entity, including
+	 * {@linkplain jakarta.persistence.OneToMany#orphanRemoval orphan removals}, are
+	 * executed as a single {@code delete ... where id in (...)} statement, instead of
+	 * one {@code delete} statement per instance.
+	 * <p/>
+	 * Only deletions without side effects are combined: the entity must be mapped to a
+	 * single table, by a single-column identifier, without a version, without
+	 * {@linkplain org.hibernate.annotations.OptimisticLockType#ALL implied optimistic
+	 * locking}, and without custom SQL, and no {@linkplain org.hibernate.event.spi.PreDeleteEventListener
+	 * pre-delete} or {@linkplain org.hibernate.event.spi.PostDeleteEventListener post-delete}
+	 * event listeners may be registered. The number of identifiers per statement is
+	 * limited by the {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit
+	 * in-list limit} and the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit
+	 * parameter limit} of the Dialect, and padded to a power of two, unless the Dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters prefers}
+	 * to pass the identifiers as a single array parameter.
+	 * <p/>
+	 * As with a JDBC batch, when a statement deletes fewer rows than expected, the
+	 * flush fails with a {@link org.hibernate.StaleStateException} naming the entity,
+	 * but not the stale instance.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_BULK_DELETES = "hibernate.jdbc.batch_bulk_deletes";
+
+	/**
+	 * When enabled, the batched statements of {@linkplain org.hibernate.StatelessSession
+	 * stateless sessions} taking part in the same JTA transaction are not executed by
+	 * each session, but are handed off to a per-transaction queue, where statements with
+	 * the same SQL are merged into shared JDBC batches. The queue is executed when the
+	 * transaction completes, using a connection enlisted in the transaction.
+	 * <p/>
+	 * The statements are executed in the order they were handed off, across all the
+	 * sessions: the rows of a statement are merged only into a batch of the same statement
+	 * handed off immediately before, so that no statement is moved ahead of another it
+	 * might depend on, for example through a foreign key.
+	 * <p/>
+	 * No statement is visible to queries before the transaction completes. Failures,
+	 * including unexpected row counts, are reported by the commit, and roll back the
+	 * transaction.
+	 * <p/>
+	 * Has no effect unless batching is enabled via {@link #STATEMENT_BATCH_SIZE}, and
+	 * the {@linkplain org.hibernate.cfg.TransactionSettings#TRANSACTION_COORDINATOR_STRATEGY
+	 * transaction coordinator} is JTA. Sessions with a tenant identifier are excluded.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_WRITE_BEHIND = "hibernate.jdbc.batch_write_behind";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -186,6 +186,41 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * When set to a positive number of milliseconds, a natural-id value which
+	 * did not match any row when it was resolved against the database is
+	 * remembered, for the given time, as not existing. Further loads and
+	 * references by that natural-id, by any session, return {@code null}
+	 * without querying the database until the entry expires, or until an
+	 * entity with that natural-id is inserted, or updated to it, through the
+	 * same {@code SessionFactory}.
+	 * <p>
+	 * Rows inserted by other applications are not seen until the entry expires,
+	 * or until the entries are evicted by {@link org.hibernate.Cache#evictAll()}
+	 * or {@link org.hibernate.Cache#evictNaturalIdData()}.
+	 * Lookups with a {@link org.hibernate.CacheMode} which does not allow
+	 * reading from the cache bypass the remembered entries.
+	 *
+	 * @see #NATURAL_ID_MISS_CACHE_MAX_ENTRIES
+	 * @see org.hibernate.NaturalIdMultiLoadAccess#preloadResolutions(Object...)
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	String NATURAL_ID_MISS_CACHE_TTL = "hibernate.cache.natural_id_miss_ttl";
+
+	/**
+	 * The maximum number of non-existing natural-id values remembered when
+	 * {@link #NATURAL_ID_MISS_CACHE_TTL} is enabled. Once the limit is reached,
+	 * the least recently used entry is forgotten for each new miss.
+	 *
+	 * @settingDefault 10000
+	 *
+	 * @since 7.0
+	 */
+	String NATURAL_ID_MISS_CACHE_MAX_ENTRIES = "hibernate.cache.natural_id_miss_max_entries";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -33,6 +33,80 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When set to a positive value, the size of each batch used to
+	 * {@linkplain BatchSize batch fetch} an entity or collection adapts to
+	 * the workload: each batch covers all the keys waiting to be batch
+	 * fetched at the time the batch fetch is triggered, up to the given
+	 * maximum, instead of the static batch size.
+	 * <p/>
+	 * Only applies to entities and collections for which batch fetching is
+	 * enabled, either explicitly or via {@link #DEFAULT_BATCH_FETCH_SIZE},
+	 * and only when the keys are passed to the database as a single
+	 * {@linkplain org.hibernate.type.SqlTypes#ARRAY array} parameter, so
+	 * that the SQL does not depend on the batch size. The batch sizes used
+	 * are reported by {@link org.hibernate.stat.EntityStatistics}
+	 * and {@link org.hibernate.stat.CollectionStatistics}.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_BATCH_FETCH_SIZE = "hibernate.adaptive_batch_fetch_size";
+
+	/**
+	 * When set to a positive value, Hibernate detects "N+1 selects": once this
+	 * number of entities of the same type, or of collections of the same role,
+	 * have been fetched one at a time by a session, by initializing proxies or
+	 * lazy collections, or by eager selects, a warning naming the code which
+	 * triggered the last fetch is logged.
+	 * <p/>
+	 * Only entities and collections for which batch fetching and subselect
+	 * fetching are disabled are considered. Each type and role is reported at
+	 * most once per session.
+	 *
+	 * @see #N_PLUS_ONE_BATCH_FETCH_SIZE
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	String N_PLUS_ONE_DETECTION_THRESHOLD = "hibernate.n_plus_one_detection_threshold";
+
+	/**
+	 * When set to a value greater than 1, an entity type or collection role for
+	 * which {@linkplain #N_PLUS_ONE_DETECTION_THRESHOLD N+1 selects were detected}
+	 * is batch fetched, with the given batch size, for the rest of the session,
+	 * including the proxies and lazy collections already associated with the
+	 * session.
+	 * <p/>
+	 * Has no effect unless {@link #N_PLUS_ONE_DETECTION_THRESHOLD} is specified.
+	 *
+	 * @settingDefault 0 (the N+1 selects are only reported)
+	 *
+	 * @since 7.0
+	 */
+	String N_PLUS_ONE_BATCH_FETCH_SIZE = "hibernate.n_plus_one_batch_fetch_size";
+
+	/**
+	 * When set to a value greater than 1, the collections included in an
+	 * {@linkplain jakarta.persistence.EntityGraph entity graph} are not join
+	 * fetched by the query which loads the root entities, which would produce
+	 * a cartesian product when the graph includes several collections. Instead,
+	 * once the root entities are loaded, each collection role is fetched by a
+	 * separate query, keyed by the identifiers of the owners, in batches of up
+	 * to this number of owners.
+	 * <p/>
+	 * The collection roles fetched this way are batch fetched, with at least
+	 * this batch size, only while the query, or the load, with the entity graph
+	 * executes. Other loads in the same session are not affected.
+	 *
+	 * @settingDefault 0 (the collections are join fetched)
+	 *
+	 * @since 7.0
+	 */
+	String ENTITY_GRAPH_COLLECTION_BATCH_SIZE = "hibernate.entity_graph_collection_batch_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -809,6 +809,18 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		return false;
 	}
 
+	/**
+	 * Can this collection be written by removing all its rows and then
+	 * inserting a row for each element, instead of writing its changes
+	 * row by row?
+	 */
+	protected boolean isRecreatePossible(CollectionPersister persister) {
+		return !persister.isOneToMany()
+			&& !persister.isInverse()
+			&& persister.needsRemove()
+			&& !persister.isAffectedByEnabledFilters( getSession() );
+	}
+
 	@Override
 	public final void forceInitialization() throws HibernateException {
 		if ( !initialized ) {
@@ -8,6 +8,7 @@ package org.hibernate.collection.spi;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,6 +47,12 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	 */
 	private Collection<E> providedCollection;
 
+	/**
+	 * The changes to write, when the bag is not a one-to-many, and writing
+	 * its changes is cheaper than recreating it
+	 */
+	private transient Delta delta;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -276,7 +283,139 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		delta = null;
+		if ( persister.isOneToMany() ) {
+			return false;
+		}
+		else if ( super.needsRecreate( persister ) || !isDeltaPossible( persister ) ) {
+			return true;
+		}
+		else {
+			final Delta delta = Delta.resolve( (List<?>) getSnapshot(), bag, persister.getElementType() );
+			if ( delta == null ) {
+				return true;
+			}
+			// recreating costs one statement to remove all rows, and one per element
+			int recreateCount = 1;
+			for ( E element : bag ) {
+				if ( element != null ) {
+					recreateCount++;
+				}
+			}
+			if ( isRecreatePossible( persister ) && delta.statementCount >= recreateCount ) {
+				return true;
+			}
+			else {
+				this.delta = delta;
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * A row of a bag which is not a one-to-many can only be deleted by its
+	 * element value, which deletes every row with the same value. This is
+	 * only possible if every element column is a non-null column.
+	 */
+	private static boolean isDeltaPossible(CollectionPersister persister) {
+		final PluralAttributeMapping attributeMapping = persister.getAttributeMapping();
+		if ( persister.isInverse()
+				|| !persister.needsRemove()
+				|| attributeMapping.getSoftDeleteMapping() != null ) {
+			return false;
+		}
+		final boolean[] possible = { true };
+		attributeMapping.getElementDescriptor().forEachSelectable( (index, selectable) -> {
+			if ( selectable.isNullable() || selectable.isFormula() ) {
+				possible[0] = false;
+			}
+		} );
+		return possible[0];
+	}
+
+	/**
+	 * A multiset difference between the snapshot and the current state of the bag.
+	 * For each distinct element value which was removed, its row is deleted. For
+	 * each value whose number of occurrences increased, the additional occurrences
+	 * are inserted.
+	 */
+	private static final class Delta {
+		private final List<Object> deletes = new ArrayList<>();
+		private final BitSet inserts = new BitSet();
+		private int statementCount;
+
+		/**
+		 * @return the delta, or {@code null} if the number of occurrences of a value
+		 * which occurred several times decreased, since its rows can only be deleted
+		 * all at once, and a row delete is expected to affect exactly one row
+		 */
+		private static Delta resolve(List<?> snapshot, List<?> bag, Type elementType) {
+			final Map<Integer, List<Occurrences>> occurrencesByHash = new HashMap<>();
+			for ( Object element : snapshot ) {
+				if ( element != null ) {
+					occurrences( occurrencesByHash, element, elementType ).snapshotCount++;
+				}
+			}
+			for ( int i = 0; i < bag.size(); i++ ) {
+				final Object element = bag.get( i );
+				if ( element != null ) {
+					occurrences( occurrencesByHash, element, elementType ).positions.add( i );
+				}
+			}
+
+			final Delta delta = new Delta();
+			for ( List<Occurrences> occurrencesWithHash : occurrencesByHash.values() ) {
+				for ( Occurrences occurrences : occurrencesWithHash ) {
+					final int count = occurrences.positions.size();
+					if ( count < occurrences.snapshotCount ) {
+						if ( occurrences.snapshotCount > 1 ) {
+							return null;
+						}
+						delta.deletes.add( occurrences.element );
+						delta.statementCount++;
+					}
+					else {
+						for ( int i = occurrences.snapshotCount; i < count; i++ ) {
+							delta.inserts.set( occurrences.positions.get( i ) );
+							delta.statementCount++;
+						}
+					}
+				}
+			}
+			return delta;
+		}
+
+		private static Occurrences occurrences(
+				Map<Integer, List<Occurrences>> occurrencesByHash,
+				Object element,
+				Type elementType) {
+			final List<Occurrences> occurrencesWithHash =
+					occurrencesByHash.computeIfAbsent( elementType.getHashCode( element ), k -> new ArrayList<>() );
+			for ( Occurrences occurrences : occurrencesWithHash ) {
+				if ( elementType.isSame( occurrences.element, element ) ) {
+					return occurrences;
+				}
+			}
+			final Occurrences occurrences = new Occurrences( element );
+			occurrencesWithHash.add( occurrences );
+			return occurrences;
+		}
+	}
+
+	private static final class Occurrences {
+		private final Object element;
+		private final List<Integer> positions = new ArrayList<>();
+		private int snapshotCount;
+
+		private Occurrences(Object element) {
+			this.element = element;
+		}
+	}
+
+	@Override
+	public void postAction() {
+		delta = null;
+		super.postAction();
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -289,6 +428,9 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		if ( delta != null ) {
+			return delta.deletes.iterator();
+		}
 		final Type elementType = persister.getElementType();
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
@@ -321,6 +463,9 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( delta != null ) {
+			return delta.inserts.get( i );
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
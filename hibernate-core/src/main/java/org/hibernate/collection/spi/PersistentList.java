@@ -107,6 +107,51 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		return true;
 	}
 
+	@Override
+	public boolean needsRecreate(CollectionPersister persister) {
+		return super.needsRecreate( persister )
+			|| isRecreatePossible( persister ) && isRecreateCheaper( persister );
+	}
+
+	/**
+	 * Writing the changes costs a statement per updated, deleted, and inserted
+	 * index, whereas recreating costs one statement to remove all rows, and a
+	 * statement per element. For example, truncating a long list is much cheaper
+	 * to write by recreating it.
+	 * <p>
+	 * Only a list which shrank by more than the number of elements it still has
+	 * is considered, so that the dirty check of any other list does not have to
+	 * compare all its elements a second time.
+	 */
+	private boolean isRecreateCheaper(CollectionPersister persister) {
+		final List<?> sn = (List<?>) getSnapshot();
+		if ( sn.size() - list.size() <= list.size() + 1 ) {
+			return false;
+		}
+		final Type elementType = persister.getElementType();
+		int recreateCount = 1;
+		for ( Object element : list ) {
+			if ( element != null ) {
+				recreateCount++;
+			}
+		}
+		int deltaCount = 0;
+		final int size = Math.max( sn.size(), list.size() );
+		for ( int i = 0; i < size && deltaCount <= recreateCount; i++ ) {
+			final Object element = i < list.size() ? list.get( i ) : null;
+			final Object snapshotElement = i < sn.size() ? sn.get( i ) : null;
+			if ( element == null || snapshotElement == null ) {
+				if ( element != snapshotElement ) {
+					deltaCount++;
+				}
+			}
+			else if ( elementType.isDirty( element, snapshotElement, getSession() ) ) {
+				deltaCount++;
+			}
+		}
+		return deltaCount > recreateCount;
+	}
+
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
 		return ( (Collection<?>) snapshot ).isEmpty();
@@ -4545,6 +4545,21 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does a multi-row {@code insert ... values (...), (...)} statement return
+	 * the values generated by the database, whether by {@code insert ... returning},
+	 * or by {@link java.sql.Statement#getGeneratedKeys()}, in the order of the rows
+	 * of the {@code values} list?
+	 *
+	 * @return {@code true} if the generated values may be matched with the rows
+	 *         by position
+	 *
+	 * @since 7.0
+	 */
+	public boolean supportsOrderedValuesListInsertReturning() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
@@ -1335,6 +1335,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsOrderedValuesListInsertReturning() {
+		return wrapped.supportsOrderedValuesListInsertReturning();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
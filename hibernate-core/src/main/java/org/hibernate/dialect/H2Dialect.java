@@ -869,6 +869,11 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsOrderedValuesListInsertReturning() {
+		return true;
+	}
+
 	@Override
 	public boolean unquoteGetGeneratedKeys() {
 		return true;
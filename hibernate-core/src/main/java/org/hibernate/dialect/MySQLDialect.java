@@ -1574,6 +1574,13 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsOrderedValuesListInsertReturning() {
+		// the auto-increment values of a multi-row insert are consecutive,
+		// and reported by getGeneratedKeys() in the order of the rows
+		return true;
+	}
+
 	@Override
 	public String appendCheckConstraintOptions(CheckConstraint checkConstraint, String sqlCheckConstraint) {
 		if ( StringHelper.isNotEmpty( checkConstraint.getOptions() ) ) {
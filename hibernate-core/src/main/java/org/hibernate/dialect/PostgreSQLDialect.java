@@ -1331,6 +1331,12 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsOrderedValuesListInsertReturning() {
+		// the returned rows follow the order of the values list
+		return true;
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return true;
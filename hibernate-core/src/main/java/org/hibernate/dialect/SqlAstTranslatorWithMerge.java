@@ -46,7 +46,8 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 				optionalTableUpdate.getMutatingTable().getTableMapping(),
 				optionalTableUpdate.getMutationTarget(),
 				getSql(),
-				getParameterBinders()
+				getParameterBinders(),
+				optionalTableUpdate
 		);
 	}
 
@@ -134,6 +135,16 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 	}
 
 	private void renderMergeUsingQuery(OptionalTableUpdate optionalTableUpdate) {
+		// a multi-row merge selects each row, with new parameters for each row
+		for ( int row = 0; row < optionalTableUpdate.getNumberOfRows(); row++ ) {
+			if ( row > 0 ) {
+				appendSql( " union all " );
+			}
+			renderMergeUsingQueryRow( optionalTableUpdate );
+		}
+	}
+
+	private void renderMergeUsingQueryRow(OptionalTableUpdate optionalTableUpdate) {
 		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
 		final List<ColumnValueBinding> keyBindings = optionalTableUpdate.getKeyBindings();
 
@@ -82,6 +82,13 @@ public class TiDBDialect extends MySQLDialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsOrderedValuesListInsertReturning() {
+		// auto-increment values are not guaranteed to be consecutive, so the
+		// keys reported by getGeneratedKeys() can't be matched with the rows
+		return false;
+	}
+
 	@Override
 	public String getQuerySequencesString() {
 		return "SELECT sequence_name FROM information_schema.sequences WHERE sequence_schema = database()";
@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Implements {@link org.hibernate.Session#prefetch}: fetches the associations
+ * reachable from some given entities by attribute paths, one level of the paths
+ * at a time, by queuing all the unfetched entities, and collections, of each
+ * level in the {@link BatchFetchQueue}, and then fetching each entity type, and
+ * each collection role, by a single batch fetch.
+ *
+ * @see org.hibernate.Session#prefetch
+ */
+public final class BatchPrefetcher {
+	private BatchPrefetcher() {
+	}
+
+	public static void prefetch(
+			Collection<?> entities,
+			String[] attributePaths,
+			SharedSessionContractImplementor session) {
+		final List<Object> roots = fetch( entities, session );
+		for ( String attributePath : attributePaths ) {
+			List<Object> owners = roots;
+			final String[] attributeNames = attributePath.split( "\\." );
+			for ( int i = 0; i < attributeNames.length && !owners.isEmpty(); i++ ) {
+				final boolean last = i == attributeNames.length - 1;
+				owners = fetch( attributeValues( owners, attributeNames[i], last, session ), session );
+			}
+		}
+	}
+
+	/**
+	 * The values of the given association of each of the given entities,
+	 * which might be unfetched proxies or collections.
+	 */
+	private static List<Object> attributeValues(
+			List<Object> owners,
+			String attributeName,
+			boolean last,
+			SharedSessionContractImplementor session) {
+		final List<Object> values = new ArrayList<>( owners.size() );
+		for ( Object owner : owners ) {
+			final EntityPersister persister = session.getEntityPersister( null, owner );
+			final AttributeMapping attributeMapping = persister.findAttributeMapping( attributeName );
+			if ( attributeMapping == null ) {
+				throw new IllegalArgumentException( "Entity '" + persister.getEntityName()
+						+ "' has no attribute named '" + attributeName + "'" );
+			}
+			else if ( attributeMapping.isPluralAttributeMapping() ) {
+				if ( !last && !( attributeMapping.asPluralAttributeMapping().getElementDescriptor()
+						instanceof EntityValuedModelPart ) ) {
+					throw new IllegalArgumentException( "Attribute '" + attributeName + "' of entity '"
+							+ persister.getEntityName() + "' is not a collection of entities" );
+				}
+			}
+			else if ( !( attributeMapping instanceof EntityValuedModelPart ) ) {
+				throw new IllegalArgumentException( "Attribute '" + attributeName + "' of entity '"
+						+ persister.getEntityName() + "' is not an association" );
+			}
+			final Object value = attributeMapping.getValue( owner );
+			if ( value != null ) {
+				values.add( value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Fetch the given proxies and collections, by one batch fetch per entity type
+	 * and per collection role, and return the entities they refer to.
+	 */
+	private static List<Object> fetch(Collection<?> values, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityPersister, List<LazyInitializer>> proxiesByEntity = new LinkedHashMap<>();
+		final Map<CollectionPersister, List<PersistentCollection<?>>> collectionsByRole = new LinkedHashMap<>();
+		for ( Object value : values ) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( value );
+			if ( lazyInitializer != null ) {
+				if ( lazyInitializer.isUninitialized() ) {
+					final EntityPersister persister =
+							session.getFactory().getMappingMetamodel()
+									.getEntityDescriptor( lazyInitializer.getEntityName() );
+					proxiesByEntity.computeIfAbsent( persister, p -> new ArrayList<>() ).add( lazyInitializer );
+				}
+			}
+			else if ( value instanceof PersistentCollection ) {
+				final PersistentCollection<?> collection = (PersistentCollection<?>) value;
+				if ( !collection.wasInitialized() ) {
+					final CollectionEntry entry = persistenceContext.getCollectionEntry( collection );
+					if ( entry != null && entry.getLoadedPersister() != null && entry.getLoadedKey() != null ) {
+						collectionsByRole.computeIfAbsent( entry.getLoadedPersister(), p -> new ArrayList<>() )
+								.add( collection );
+					}
+				}
+			}
+		}
+
+		proxiesByEntity.forEach( (persister, proxies) -> fetchProxies( persister, proxies, session ) );
+		collectionsByRole.forEach( (persister, collections) -> fetchCollections( persister, collections, session ) );
+
+		final List<Object> targets = new ArrayList<>( values.size() );
+		boolean unfetchedElements = false;
+		for ( Object value : values ) {
+			if ( value instanceof PersistentCollection ) {
+				final PersistentCollection<?> collection = (PersistentCollection<?>) value;
+				if ( collection.wasInitialized() ) {
+					final Collection<?> elements = value instanceof Map
+							? ( (Map<?, ?>) value ).values()
+							: (Collection<?>) value;
+					for ( Object element : elements ) {
+						if ( element != null ) {
+							targets.add( element );
+							unfetchedElements = unfetchedElements || !Hibernate.isInitialized( element );
+						}
+					}
+				}
+			}
+			else {
+				targets.add( value );
+			}
+		}
+
+		if ( unfetchedElements ) {
+			// the elements of the collections are proxies, fetch them too
+			return fetch( targets, session );
+		}
+		else {
+			final IdentitySet<Object> fetched = new IdentitySet<>( targets.size() );
+			for ( Object target : targets ) {
+				fetched.add( Hibernate.unproxy( target ) );
+			}
+			return new ArrayList<>( fetched );
+		}
+	}
+
+	private static void fetchProxies(
+			EntityPersister persister,
+			List<LazyInitializer> proxies,
+			SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		// several of the proxies might be the same proxy
+		final Set<EntityKey> keys = new LinkedHashSet<>( proxies.size() );
+		for ( LazyInitializer proxy : proxies ) {
+			final EntityKey key = session.generateEntityKey( proxy.getInternalIdentifier(), persister );
+			if ( persistenceContext.getEntity( key ) == null ) {
+				keys.add( key );
+			}
+		}
+		if ( keys.size() > 1 ) {
+			final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			for ( EntityKey key : keys ) {
+				batchFetchQueue.addBatchLoadableEntityKey( key );
+			}
+			// the batch size is overridden only while the proxies are fetched
+			session.getLoadQueryInfluencers().fromEntityBatchFetching(
+					List.of( persister.getRootEntityName() ),
+					batchSize( keys.size() ),
+					() -> initializeProxies( proxies )
+			);
+		}
+		else {
+			initializeProxies( proxies );
+		}
+	}
+
+	private static Void initializeProxies(List<LazyInitializer> proxies) {
+		// the first one fetches the whole batch, and the rest are then found
+		// in the persistence context
+		for ( LazyInitializer proxy : proxies ) {
+			proxy.initialize();
+		}
+		return null;
+	}
+
+	private static void fetchCollections(
+			CollectionPersister persister,
+			List<PersistentCollection<?>> collections,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( collections.size() > 1 && !influencers.effectiveSubselectFetchEnabled( persister ) ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			for ( PersistentCollection<?> collection : collections ) {
+				batchFetchQueue.addBatchLoadableCollection(
+						collection,
+						persistenceContext.getCollectionEntry( collection )
+				);
+			}
+			// the batch size is overridden only while the collections are fetched
+			influencers.fromCollectionBatchFetching(
+					List.of( persister.getRole() ),
+					batchSize( collections.size() ),
+					() -> initializeCollections( collections )
+			);
+		}
+		else {
+			initializeCollections( collections );
+		}
+	}
+
+	private static Void initializeCollections(List<PersistentCollection<?>> collections) {
+		// the first one fetches the whole batch, and the rest are
+		// then already initialized
+		for ( PersistentCollection<?> collection : collections ) {
+			collection.forceInitialization();
+		}
+		return null;
+	}
+
+	/**
+	 * The batch size for the given number of keys, rounded up to a power of two,
+	 * so that the persisters do not end up with a batch loader for every count.
+	 */
+	private static int batchSize(int keyCount) {
+		return Integer.highestOneBit( keyCount - 1 ) << 1;
+	}
+}
@@ -63,6 +63,49 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Get several entries from the second-level cache, using a single
+	 * {@linkplain CachedDomainDataAccess#getAll bulk get}
+	 *
+	 * @return the cached values, in the order of the given keys
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && containsAnyValue( cachedValues );
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					false,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	private static boolean containsAnyValue(Object[] cachedValues) {
+		for ( Object cachedValue : cachedValues ) {
+			if ( cachedValue != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public static Object fromSharedCache(
 			SharedSessionContractImplementor session,
 			Object cacheKey,
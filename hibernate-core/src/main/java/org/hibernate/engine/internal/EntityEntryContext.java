@@ -59,8 +59,16 @@ public class EntityEntryContext {
 	private transient IdentityHashMap<Object,ManagedEntity> nonEnhancedEntityXref;
 
 	@SuppressWarnings("unchecked")
-	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
-	private transient boolean dirty;
+	private static final Map.Entry<Object,EntityEntry>[] NO_ENTRIES = new Map.Entry[0];
+
+	// The reentrant-safe snapshot is maintained incrementally: it always covers the prefix of the
+	// linked list up to (and including) snapshotTail.  Additions are appended after the tail, so only
+	// entities added since the last snapshot need a new cross-ref; entities removed or re-associated
+	// with a different EntityEntry since then are tracked in invalidatedSnapshotEntities (the value
+	// being TRUE for a removal) and patched up when the next snapshot is requested.
+	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = NO_ENTRIES;
+	private transient ManagedEntity snapshotTail;
+	private transient IdentityHashMap<Object,Boolean> invalidatedSnapshotEntities;
 
 	/**
 	 * Constructs a EntityEntryContext
@@ -80,9 +88,6 @@ public class EntityEntryContext {
 		//		add is called more than once of some entities.  In such cases the first
 		//		call is simply setting up a "marker" to avoid infinite looping from reentrancy
 
-		// any addition (even the double one described above) should invalidate the cross-ref array
-		dirty = true;
-
 		assert entityEntry instanceof AbstractEntityEntry;
 
 		// We only need to check a mutable EntityEntry is associated with the same PersistenceContext.
@@ -126,6 +131,11 @@ public class EntityEntryContext {
 			}
 		}
 
+		if ( alreadyAssociated && managedEntity.$$_hibernate_getEntityEntry() != entityEntry ) {
+			// the cross-ref for this entity (if it is part of the current snapshot) is now stale
+			invalidateSnapshotEntry( entity, false );
+		}
+
 		// associate the EntityEntry with the entity
 		managedEntity.$$_hibernate_setEntityEntry( entityEntry );
 
@@ -134,7 +144,8 @@ public class EntityEntryContext {
 			return;
 		}
 
-		// TODO: can dirty be set to true here?
+		// no need to invalidate the snapshot here: the new link is appended after snapshotTail
+		// and will be picked up by the next call to reentrantSafeEntityEntries()
 
 		// finally, set up linking and count
 		if ( tail == null ) {
@@ -252,7 +263,7 @@ public class EntityEntryContext {
 			return null;
 		}
 
-		dirty = true;
+		invalidateSnapshotEntry( entity, true );
 
 		if (managedEntity instanceof ImmutableManagedEntityHolder) {
 			assert entity == ( (ImmutableManagedEntityHolder) managedEntity ).managedEntity;
@@ -269,6 +280,11 @@ public class EntityEntryContext {
 		managedEntity.$$_hibernate_setPreviousManagedEntity( null );
 		managedEntity.$$_hibernate_setNextManagedEntity( null );
 
+		if ( managedEntity == snapshotTail ) {
+			// everything before the removed tail is still covered by the snapshot
+			snapshotTail = previous;
+		}
+
 		// re-link
 		count--;
 
@@ -307,29 +323,84 @@ public class EntityEntryContext {
 		return theEntityEntry;
 	}
 
+	private void invalidateSnapshotEntry(Object entity, boolean removed) {
+		if ( reentrantSafeEntries.length == 0 ) {
+			// nothing has been snapshot yet, so nothing can be stale
+			return;
+		}
+		if ( invalidatedSnapshotEntities == null ) {
+			invalidatedSnapshotEntities = new IdentityHashMap<>();
+		}
+		if ( removed ) {
+			invalidatedSnapshotEntities.put( entity, Boolean.TRUE );
+		}
+		else {
+			// a removal takes precedence over a later re-association
+			invalidatedSnapshotEntities.putIfAbsent( entity, Boolean.FALSE );
+		}
+	}
+
 	/**
 	 * The main bugaboo with IdentityMap that warranted this class in the first place.
 	 *
 	 * Return an array of all the entity/EntityEntry pairs in this context.  The array is to make sure
 	 * that the iterators built off of it are safe from concurrency/reentrancy
+	 * <p>
+	 * A new array is only built if the context changed since the previous call, and in that case
+	 * the cross-refs of the previous array are reused for all entities which are still associated
+	 * with the same EntityEntry, so that the number of allocated cross-refs is proportional to the
+	 * number of changes rather than to the size of the context.
 	 *
 	 * @return The safe array
 	 */
 	public Map.Entry<Object, EntityEntry>[] reentrantSafeEntityEntries() {
-		if ( dirty ) {
-			reentrantSafeEntries = new EntityEntryCrossRefImpl[count];
-			int i = 0;
-			ManagedEntity managedEntity = head;
-			while ( managedEntity != null ) {
-				reentrantSafeEntries[i++] = new EntityEntryCrossRefImpl(
-						managedEntity.$$_hibernate_getEntityInstance(),
-						managedEntity.$$_hibernate_getEntityEntry()
-				);
-				managedEntity = managedEntity.$$_hibernate_getNextManagedEntity();
+		final ManagedEntity firstAppended = snapshotTail == null
+				? head
+				: snapshotTail.$$_hibernate_getNextManagedEntity();
+		if ( firstAppended == null && invalidatedSnapshotEntities == null ) {
+			// nothing changed since the previous snapshot
+			return reentrantSafeEntries;
+		}
+
+		final Map.Entry<Object, EntityEntry>[] previousEntries = reentrantSafeEntries;
+		final Map.Entry<Object, EntityEntry>[] entries = new EntityEntryCrossRefImpl[count];
+		int i = 0;
+
+		// first, the part of the context already covered by the previous snapshot
+		if ( invalidatedSnapshotEntities == null ) {
+			System.arraycopy( previousEntries, 0, entries, 0, previousEntries.length );
+			i = previousEntries.length;
+		}
+		else {
+			for ( Map.Entry<Object, EntityEntry> previousEntry : previousEntries ) {
+				final Object entity = previousEntry.getKey();
+				final Boolean removed = invalidatedSnapshotEntities.get( entity );
+				if ( removed == null ) {
+					entries[i++] = previousEntry;
+				}
+				else if ( !removed ) {
+					// re-associated in place with a different EntityEntry
+					entries[i++] = new EntityEntryCrossRefImpl( entity, getEntityEntry( entity ) );
+				}
+				// otherwise it was removed (and possibly re-added, in which case it was appended)
 			}
-			dirty = false;
+			invalidatedSnapshotEntities = null;
 		}
-		return reentrantSafeEntries;
+
+		// then everything appended since
+		ManagedEntity managedEntity = firstAppended;
+		while ( managedEntity != null ) {
+			entries[i++] = new EntityEntryCrossRefImpl(
+					managedEntity.$$_hibernate_getEntityInstance(),
+					managedEntity.$$_hibernate_getEntityEntry()
+			);
+			managedEntity = managedEntity.$$_hibernate_getNextManagedEntity();
+		}
+		assert i == count;
+
+		reentrantSafeEntries = entries;
+		snapshotTail = tail;
+		return entries;
 	}
 
 	private void processEachManagedEntity(final Consumer<ManagedEntity> action) {
@@ -369,8 +440,6 @@ public class EntityEntryContext {
 	 * Clear this context of all managed entities
 	 */
 	public void clear() {
-		dirty = true;
-
 		clearAllReferencesFromManagedEntities();
 
 		if ( immutableManagedEntityXref != null ) {
@@ -385,7 +454,9 @@ public class EntityEntryContext {
 		tail = null;
 		count = 0;
 
-		reentrantSafeEntries = null;
+		reentrantSafeEntries = NO_ENTRIES;
+		snapshotTail = null;
+		invalidatedSnapshotEntities = null;
 	}
 
 	private static void clearManagedEntity(final ManagedEntity node) {
@@ -454,7 +525,6 @@ public class EntityEntryContext {
 
 		final EntityEntryContext context = new EntityEntryContext( rtn );
 		context.count = count;
-		context.dirty = true;
 
 		if ( count == 0 ) {
 			return context;
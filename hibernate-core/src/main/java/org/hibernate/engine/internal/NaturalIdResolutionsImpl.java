@@ -15,6 +15,7 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.cache.spi.NaturalIdMissCache;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -234,6 +235,10 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 			return;
 		}
 
+		if ( source != CachedNaturalIdValueSource.LOAD ) {
+			evictKnownMiss( naturalId, entityDescriptor );
+		}
+
 		if ( naturalIdMapping.getCacheAccess() == null ) {
 			// nothing to do
 			return;
@@ -248,6 +253,25 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		);
 	}
 
+	/**
+	 * An entity with the given natural-id was inserted, or updated to it, so
+	 * forget that the natural-id did not exist, both now and once the
+	 * transaction completes, in case another session remembered it again in
+	 * the meantime
+	 */
+	private void evictKnownMiss(Object naturalId, EntityMappingType entityDescriptor) {
+		final SharedSessionContractImplementor s = session();
+		final NaturalIdMissCache missCache =
+				s.getFactory().getServiceRegistry().getService( NaturalIdMissCache.class );
+		if ( missCache != null && missCache.isEnabled() ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			missCache.evict( naturalId, persister, s );
+			s.asEventSource().getActionQueue().registerProcess(
+					(success, session) -> missCache.evict( naturalId, persister, session )
+			);
+		}
+	}
+
 	private void manageSharedResolution(
 			EntityPersister persister,
 			final Object id,
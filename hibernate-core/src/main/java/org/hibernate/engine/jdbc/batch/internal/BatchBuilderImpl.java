@@ -7,20 +7,41 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.TransactionException;
+import org.hibernate.cfg.BatchSettings;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.type.descriptor.WrapperOptions;
 
+import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+
+import static org.hibernate.cfg.BatchSettings.BATCH_MULTI_ROW_INSERTS;
+import static org.hibernate.cfg.BatchSettings.BATCH_PIPELINING;
+import static org.hibernate.cfg.BatchSettings.BATCH_WRITE_BEHIND;
+import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.jdbc.Expectations.NONE;
 
 /**
@@ -28,8 +49,11 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+	private final ExecutorService pipelineExecutor;
+	private final Map<Object, WriteBehindQueue> writeBehindQueues;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,14 +62,48 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false, false, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl from the given configuration settings
+	 *
+	 * @param configurationValues The settings, including
+	 * {@value BatchSettings#STATEMENT_BATCH_SIZE},
+	 * {@value BatchSettings#BATCH_MULTI_ROW_INSERTS},
+	 * {@value BatchSettings#BATCH_PIPELINING}, and
+	 * {@value BatchSettings#BATCH_WRITE_BEHIND}
+	 */
+	public BatchBuilderImpl(Map<String, Object> configurationValues) {
+		this(
+				getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+				getBoolean( BATCH_MULTI_ROW_INSERTS, configurationValues ),
+				getBoolean( BATCH_PIPELINING, configurationValues ),
+				getBoolean( BATCH_WRITE_BEHIND, configurationValues )
+		);
+	}
+
+	private BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelining, boolean writeBehind) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts %s, pipelining %s, write-behind %s)",
+					globalBatchSize,
+					multiRowInserts,
+					pipelining,
+					writeBehind
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.pipelineExecutor = pipelining ? Executors.newCachedThreadPool( BatchBuilderImpl::newPipelineThread ) : null;
+		this.writeBehindQueues = writeBehind ? new ConcurrentHashMap<>() : null;
+	}
+
+	private static Thread newPipelineThread(Runnable runnable) {
+		final Thread thread = new Thread( runnable, "hibernate-batch-pipeline" );
+		thread.setDaemon( true );
+		return thread;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +121,82 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( writeBehindQueues != null ) {
+			final WriteBehindQueue queue = resolveWriteBehindQueue( statementGroup, jdbcCoordinator );
+			if ( queue != null ) {
+				return new WriteBehindBatch( key, statementGroup, queue, jdbcCoordinator );
+			}
+		}
+		if ( multiRowInserts ) {
+			final MultiRowInsertBatch.Shape shape = MultiRowInsertBatch.resolveShape( statementGroup, jdbcCoordinator );
+			if ( shape != null ) {
+				return new MultiRowInsertBatch( key, statementGroup, shape, batchSize, jdbcCoordinator );
+			}
+		}
+		if ( pipelineExecutor != null && jdbcCoordinator.getJdbcSessionOwner() instanceof WrapperOptions ) {
+			return new PipelinedBatch( key, statementGroup, batchSize, pipelineExecutor, jdbcCoordinator );
+		}
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	/**
+	 * The queue of the JTA transaction of the given stateless session, or
+	 * {@code null} if its statements cannot be written behind.
+	 */
+	private WriteBehindQueue resolveWriteBehindQueue(
+			PreparedStatementGroup statementGroup,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( !( jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor session )
+				|| !session.isStatelessSession()
+				|| session.getTenantIdentifierValue() != null
+				|| !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+				|| !WriteBehindQueue.isWriteBehindPossible( statementGroup ) ) {
+			return null;
+		}
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		final JtaPlatform jtaPlatform = factory.getServiceRegistry().requireService( JtaPlatform.class );
+		final Object transactionIdentifier = currentTransactionIdentifier( jtaPlatform );
+		if ( transactionIdentifier == null ) {
+			return null;
+		}
+		final WriteBehindQueue existing = writeBehindQueues.get( transactionIdentifier );
+		if ( existing != null ) {
+			return existing;
+		}
+		else if ( !jtaPlatform.canRegisterSynchronization() ) {
+			return null;
+		}
+		else {
+			return writeBehindQueues.computeIfAbsent( transactionIdentifier, id -> {
+				final WriteBehindQueue queue =
+						new WriteBehindQueue( id, writeBehindQueues, factory, session.getJdbcConnectionAccess() );
+				jtaPlatform.registerSynchronization( queue );
+				return queue;
+			} );
+		}
+	}
+
+	private static Object currentTransactionIdentifier(JtaPlatform jtaPlatform) {
+		final TransactionManager transactionManager = jtaPlatform.retrieveTransactionManager();
+		if ( transactionManager == null ) {
+			return null;
+		}
+		try {
+			final Transaction transaction = transactionManager.getTransaction();
+			return transaction == null ? null : jtaPlatform.getTransactionIdentifier( transaction );
+		}
+		catch (SystemException e) {
+			throw new TransactionException( "Could not obtain the current JTA transaction", e );
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			pipelineExecutor.shutdown();
+		}
 	}
 
 
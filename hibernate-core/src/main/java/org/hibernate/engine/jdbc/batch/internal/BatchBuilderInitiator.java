@@ -14,7 +14,6 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.BatchSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
-import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -43,9 +42,7 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
-			);
+			return new BatchBuilderImpl( configurationValues );
 		}
 
 		if ( builder instanceof BatchBuilder ) {
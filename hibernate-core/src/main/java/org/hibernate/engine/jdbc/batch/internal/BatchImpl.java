@@ -26,6 +26,7 @@ import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -259,6 +260,10 @@ public class BatchImpl implements Batch {
 
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final StatisticsImplementor statistics = jdbcSessionOwner.getJdbcSessionContext().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecuted( batchPosition );
+		}
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -0,0 +1,418 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.MultiRowTableMutation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.sql.model.jdbc.MergeOperation;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * Batch of single-table inserts which, instead of using {@link PreparedStatement#addBatch()},
+ * collects the parameter bindings of each row and executes them as a single
+ * {@code insert into ... values (...), (...), ...} statement, with as many rows per
+ * statement as the {@linkplain Dialect#getParameterCountLimit() parameter limit} allows.
+ * <p>
+ * Upserts executed as a {@code merge} statement are combined in the same way, into a
+ * single {@code merge} statement whose source is the {@code union all} of the rows.
+ * Since a {@code merge} may not affect the same row twice, a row with the same key
+ * as a row already in the batch causes the batch to be executed first.
+ * <p>
+ * The multi-row statements are rendered by the SQL AST translator of the dialect,
+ * from the {@linkplain MultiRowTableMutation table mutation} which the single-row
+ * statement was translated from.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final Shape shape;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final WrapperOptions wrapperOptions;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final List<Binding[]> rows;
+	// the keys of the rows of a merge, which must all be distinct
+	private final Set<List<Object>> rowKeys = new HashSet<>();
+	private String fullStatementSql;
+	private boolean batchExecuted;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Shape shape,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.shape = shape;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.wrapperOptions = (WrapperOptions) jdbcCoordinator.getJdbcSessionOwner();
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.rows = new ArrayList<>( batchSizeToUse );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s, %s rows per statement) - `%s`",
+					batchSizeToUse,
+					shape.maxRowsPerStatement(),
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Determine whether the given statement group is a single-table insert or merge
+	 * which can be rendered as a multi-row statement, returning {@code null} if not.
+	 */
+	public static Shape resolveShape(PreparedStatementGroup statementGroup, JdbcCoordinator jdbcCoordinator) {
+		if ( statementGroup.getNumberOfStatements() != 1
+				|| !( jdbcCoordinator.getJdbcSessionOwner() instanceof WrapperOptions ) ) {
+			return null;
+		}
+
+		final PreparedStatementDetails statementDetails = statementGroup.getSingleStatementDetails();
+		final Expectation expectation = statementDetails.getExpectation();
+		if ( expectation.getClass() != Expectation.RowCount.class
+				&& expectation.getClass() != Expectation.None.class ) {
+			return null;
+		}
+		final PreparableMutationOperation operation = statementDetails.getMutationOperation();
+		// the statement must be exactly the one the operation renders
+		if ( operation == null || !statementDetails.getSqlString().equals( operation.getSqlString() ) ) {
+			return null;
+		}
+
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext()
+				.getJdbcServices()
+				.getDialect();
+		return Shape.resolve( operation, dialect );
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final PreparedStatementDetails statementDetails = statementGroup.getSingleStatementDetails();
+		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			return;
+		}
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding row to multi-row insert batch (%s) - `%s`",
+					rows.size() + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		// the bindings are applied when the batch is executed, with the
+		// parameter positions shifted according to the position of the row
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+		final Binding[] row = bindingGroup == null ? new Binding[0] : bindingGroup.getBindings().toArray( new Binding[0] );
+		jdbcValueBindings.afterStatement( tableDetails );
+		if ( shape.keyParametersPerRow() > 0 && !rowKeys.add( rowKey( row ) ) ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			rowKeys.add( rowKey( row ) );
+		}
+		rows.add( row );
+
+		if ( rows.size() == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchExecuted = true;
+		}
+	}
+
+	private List<Object> rowKey(Binding[] row) {
+		final List<Object> rowKey = new ArrayList<>( shape.keyParametersPerRow() );
+		for ( Binding binding : row ) {
+			// the key columns are the first parameters of a merge
+			if ( binding.getPosition() <= shape.keyParametersPerRow() ) {
+				rowKey.add( binding.getValue() );
+			}
+		}
+		return rowKey;
+	}
+
+	private void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	private void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( rows.isEmpty() ) {
+				if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf( "No batched statements to execute - %s", getKey().toLoggableString() );
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			release();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					rows.size(),
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final StatisticsImplementor statistics =
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecuted( rows.size() );
+		}
+		try {
+			final int maxRowsPerStatement = shape.maxRowsPerStatement();
+			for ( int start = 0; start < rows.size(); start += maxRowsPerStatement ) {
+				executeRows( start, Math.min( maxRowsPerStatement, rows.size() - start ) );
+			}
+		}
+		finally {
+			rows.clear();
+			rowKeys.clear();
+		}
+	}
+
+	private void executeRows(int start, int count) {
+		final PreparedStatementDetails statementDetails = statementGroup.getSingleStatementDetails();
+		final String sql = resolveSql( count );
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+		try {
+			sqlStatementLogger.logStatement( sql );
+			for ( int i = 0; i < count; i++ ) {
+				final int offset = i * shape.parametersPerRow();
+				for ( Binding binding : rows.get( start + i ) ) {
+					binding.getValueBinder().bind(
+							statement,
+							binding.getValue(),
+							binding.getPosition() + offset,
+							wrapperOptions
+					);
+				}
+			}
+
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( statementDetails.getExpectation() instanceof Expectation.RowCount
+					&& rowCount != count && rowCount != Statement.SUCCESS_NO_INFO ) {
+				throw new StaleStateException(
+						"Multi-row insert returned unexpected row count: " + rowCount
+								+ "; expected: " + count + "; statement executed: " + sql
+				);
+			}
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", sql );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private String resolveSql(int count) {
+		if ( count == 1 ) {
+			return statementGroup.getSingleStatementDetails().getSqlString();
+		}
+		else if ( count == Math.min( shape.maxRowsPerStatement(), batchSizeToUse ) ) {
+			// the common case, a full statement, is rendered once per batch
+			if ( fullStatementSql == null ) {
+				fullStatementSql = shape.render( count, wrapperOptions.getSessionFactory() );
+			}
+			return fullStatementSql;
+		}
+		else {
+			return shape.render( count, wrapperOptions.getSessionFactory() );
+		}
+	}
+
+	private void abortBatch(Exception cause) {
+		rows.clear();
+		rowKeys.clear();
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			rows.clear();
+			rowKeys.clear();
+		}
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * A single-row {@code insert} or {@code merge} whose table mutation may be
+	 * rendered as a statement inserting or merging several rows, along with the
+	 * number of parameters of each row.
+	 *
+	 * @param mutation the table mutation, rendered with the number of rows
+	 * @param parametersPerRow the number of parameters of each row
+	 * @param keyParametersPerRow for a merge, the number of key parameters,
+	 * which are the first parameters of each row, and otherwise zero
+	 * @param maxRowsPerStatement the number of rows whose parameters do not
+	 * exceed the {@linkplain Dialect#getParameterCountLimit() parameter limit}
+	 */
+	public record Shape(
+			MultiRowTableMutation<?> mutation,
+			int parametersPerRow,
+			int keyParametersPerRow,
+			int maxRowsPerStatement) {
+
+		/**
+		 * The shape of the given operation, or {@code null} if it was not
+		 * translated from an insert or merge which may be rendered for several
+		 * rows, or if it has parameters outside its row.
+		 */
+		public static Shape resolve(PreparableMutationOperation operation, Dialect dialect) {
+			if ( operation instanceof JdbcInsertMutation insert ) {
+				return insert.getMultiRowMutation() == null || !dialect.supportsValuesListForInsert()
+						? null
+						: create( insert.getMultiRowMutation(), operation, 0, dialect );
+			}
+			else if ( operation instanceof MergeOperation merge
+					&& merge.getMultiRowMutation() instanceof OptionalTableUpdate upsert
+					// the optimistic lock parameters are not part of the row
+					&& upsert.getOptimisticLockBindings().isEmpty() ) {
+				int keyParametersPerRow = 0;
+				for ( ColumnValueBinding keyBinding : upsert.getKeyBindings() ) {
+					keyParametersPerRow += keyBinding.getValueExpression().getParameters().size();
+				}
+				return keyParametersPerRow == 0 ? null : create( upsert, operation, keyParametersPerRow, dialect );
+			}
+			else {
+				return null;
+			}
+		}
+
+		private static Shape create(
+				MultiRowTableMutation<?> mutation,
+				PreparableMutationOperation operation,
+				int keyParametersPerRow,
+				Dialect dialect) {
+			final int parametersPerRow = operation.getParameterBinders().size();
+			if ( parametersPerRow == 0 || parametersPerRow < keyParametersPerRow ) {
+				return null;
+			}
+
+			final int parameterLimit = dialect.getParameterCountLimit();
+			final int maxRowsPerStatement = parameterLimit > 0 ? parameterLimit / parametersPerRow : Integer.MAX_VALUE;
+			if ( maxRowsPerStatement < 2 ) {
+				return null;
+			}
+			return new Shape( mutation, parametersPerRow, keyParametersPerRow, maxRowsPerStatement );
+		}
+
+		/**
+		 * Render a statement inserting or merging the given number of rows.
+		 */
+		public String render(int rows, SessionFactoryImplementor factory) {
+			final MutationOperation operation = mutation.withNumberOfRows( rows ).createMutationOperation( null, factory );
+			return ( (PreparableMutationOperation) operation ).getSqlString();
+		}
+	}
+}
@@ -0,0 +1,450 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * Batch which executes a full batch asynchronously, using the given {@link Executor},
+ * while the session goes on collecting the parameter bindings of the next batch.
+ * <p>
+ * The connection is never used by two threads at once: the parameter bindings
+ * of each row are collected without touching the {@link PreparedStatement}s,
+ * and are only applied once the previous execution completed, just before the
+ * batch is handed off. Any other use of the batch, or of the {@link JdbcCoordinator},
+ * including the preparation of any statement, first waits for the pending
+ * execution to complete, and rethrows any exception it failed with.
+ * <p>
+ * The thread executing the batch only calls {@link PreparedStatement#executeBatch()}.
+ * Everything belonging to the session, including the value binders, the event
+ * handlers, and the conversion of exceptions, is only used by the session.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+ */
+public class PipelinedBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final List<PreparedStatementDetails> statements;
+	private final Executor executor;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final WrapperOptions wrapperOptions;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	// the bindings of each row, per statement, or null if the row does not affect the table
+	private List<Binding[][]> rows;
+	private Execution pendingExecution;
+	private boolean batchExecuted;
+
+	public PipelinedBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			Executor executor,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.executor = executor;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.wrapperOptions = (WrapperOptions) jdbcCoordinator.getJdbcSessionOwner();
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.statements = new ArrayList<>( statementGroup.getNumberOfStatements() );
+		statementGroup.forEachStatement( (tableName, statementDetails) -> statements.add( statementDetails ) );
+		this.rows = new ArrayList<>( batchSizeToUse );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created pipelined Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to pipelined JDBC batch (%s) - `%s`",
+					rows.size() + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final Binding[][] row = new Binding[statements.size()][];
+		for ( int i = 0; i < row.length; i++ ) {
+			final PreparedStatementDetails statementDetails = statements.get( i );
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+				row[i] = bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS );
+				jdbcValueBindings.afterStatement( tableDetails );
+			}
+		}
+		rows.add( row );
+
+		if ( rows.size() == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			// there is at most one pending execution
+			awaitExecution();
+			final List<Binding[][]> executingRows = rows;
+			rows = new ArrayList<>( batchSizeToUse );
+			final Execution execution = prepareExecution( executingRows );
+			execution.future = CompletableFuture.runAsync( execution::executeBatches, executor );
+			pendingExecution = execution;
+			batchExecuted = true;
+		}
+	}
+
+	/**
+	 * Wait for the pending asynchronous execution of this batch, if any, to complete,
+	 * rethrowing the exception it failed with.
+	 */
+	public void awaitExecution() {
+		final Execution execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				completeExecution( execution );
+			}
+			catch (RuntimeException e) {
+				abortBatch( e );
+				throw e;
+			}
+		}
+	}
+
+	private void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	private void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			awaitExecution();
+			if ( rows.isEmpty() ) {
+				if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf( "No batched statements to execute - %s", getKey().toLoggableString() );
+				}
+			}
+			else {
+				final List<Binding[][]> executingRows = rows;
+				rows = new ArrayList<>( batchSizeToUse );
+				final Execution execution = prepareExecution( executingRows );
+				execution.executeBatches();
+				try {
+					completeExecution( execution );
+				}
+				catch (RuntimeException e) {
+					abortBatch( e );
+					throw e;
+				}
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	/**
+	 * Prepare the statements, and add the rows to their batches. This is done by the
+	 * calling thread, so that only the connection, and no object belonging to the
+	 * session, is ever used by the thread executing the batch.
+	 */
+	private Execution prepareExecution(List<Binding[][]> executingRows) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing pipelined JDBC batch (%s / %s) - `%s`",
+					executingRows.size(),
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final Execution execution = new Execution();
+		for ( int i = 0; i < statements.size(); i++ ) {
+			final PreparedStatementDetails statementDetails = statements.get( i );
+			int batchPosition = 0;
+			for ( Binding[][] row : executingRows ) {
+				if ( row[i] != null ) {
+					if ( batchPosition == 0 ) {
+						statementDetails.resolveStatement();
+					}
+					addBatch( statementDetails, row[i] );
+					batchPosition++;
+				}
+			}
+			execution.batchPositions[i] = batchPosition;
+		}
+
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final StatisticsImplementor statistics = jdbcSessionOwner.getJdbcSessionContext().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecuted( executingRows.size() );
+		}
+		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final EventManager eventManager = jdbcSessionOwner.getEventManager();
+		for ( int i = 0; i < statements.size(); i++ ) {
+			if ( execution.batchPositions[i] > 0 && statements.get( i ).getMutatingTableDetails().isIdentifierTable() ) {
+				execution.events[i] = eventManager.beginJdbcBatchExecutionEvent();
+				eventHandler.jdbcExecuteBatchStart();
+			}
+		}
+		return execution;
+	}
+
+	private void addBatch(PreparedStatementDetails statementDetails, Binding[] bindings) {
+		final PreparedStatement statement = statementDetails.getStatement();
+		try {
+			for ( Binding binding : bindings ) {
+				binding.getValueBinder().bind(
+						statement,
+						binding.getValue(),
+						binding.getPosition(),
+						wrapperOptions
+				);
+			}
+			statement.addBatch();
+		}
+		catch (SQLException e) {
+			final RuntimeException exception =
+					sqlExceptionHelper.convert( e, "could not perform addBatch", statementDetails.getSqlString() );
+			abortBatch( exception );
+			throw exception;
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+	}
+
+	/**
+	 * Wait for the given execution to complete, and then, on the calling thread,
+	 * report it, check the row counts, and convert the exception it failed with.
+	 */
+	private void completeExecution(Execution execution) {
+		if ( execution.future != null ) {
+			try {
+				execution.future.join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof Error error ) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final EventManager eventManager = jdbcSessionOwner.getEventManager();
+		for ( int i = 0; i < statements.size(); i++ ) {
+			if ( execution.events[i] != null ) {
+				eventManager.completeJdbcBatchExecutionEvent( execution.events[i], statements.get( i ).getSqlString() );
+				eventHandler.jdbcExecuteBatchEnd();
+			}
+		}
+
+		if ( execution.failedStatement >= 0 ) {
+			final String sql = statements.get( execution.failedStatement ).getSqlString();
+			final Exception failure = execution.failure;
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( failure, sql );
+			if ( failure instanceof SQLException sqlException ) {
+				throw sqlExceptionHelper.convert( sqlException, "could not execute batch", sql );
+			}
+			else {
+				throw (RuntimeException) failure;
+			}
+		}
+
+		for ( int i = 0; i < statements.size(); i++ ) {
+			final PreparedStatementDetails statementDetails = statements.get( i );
+			if ( execution.rowCounts[i] != null && statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				try {
+					checkRowCounts( execution.rowCounts[i], execution.batchPositions[i], statementDetails );
+				}
+				catch (SQLException e) {
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, statementDetails.getSqlString() );
+					throw sqlExceptionHelper.convert( e, "could not execute batch", statementDetails.getSqlString() );
+				}
+				catch (RuntimeException e) {
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, statementDetails.getSqlString() );
+					throw e;
+				}
+			}
+		}
+	}
+
+	private void checkRowCounts(int[] rowCounts, int batchPosition, PreparedStatementDetails statementDetails)
+			throws SQLException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( numberOfRowCounts != batchPosition ) {
+			JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
+					statementDetails.getMutatingTableDetails().getTableName(),
+					numberOfRowCounts,
+					batchPosition
+			);
+		}
+
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			statementDetails.getExpectation().verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, statementDetails.getSqlString() );
+		}
+	}
+
+	private void abortBatch(Exception cause) {
+		rows.clear();
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	private void releaseStatements() {
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				try {
+					if ( !statement.isClosed() ) {
+						statement.clearBatch();
+					}
+				}
+				catch ( SQLException e ) {
+					BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+				}
+			}
+		} );
+
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	@Override
+	public void release() {
+		final Execution execution = pendingExecution;
+		pendingExecution = null;
+		try {
+			if ( execution != null ) {
+				// the statements cannot be released while they are being executed,
+				// and a failed execution must not go unnoticed
+				completeExecution( execution );
+			}
+		}
+		finally {
+			if ( !rows.isEmpty() ) {
+				BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+				rows.clear();
+			}
+			releaseStatements();
+			observers.clear();
+		}
+	}
+
+	/**
+	 * The execution of the batches of the statements, whose rows were already added
+	 * by the calling thread. The thread executing the batch only calls
+	 * {@link PreparedStatement#executeBatch()}, and records the outcome, which is
+	 * then processed by the calling thread.
+	 */
+	private class Execution {
+		private final int[] batchPositions = new int[statements.size()];
+		private final HibernateMonitoringEvent[] events = new HibernateMonitoringEvent[statements.size()];
+		private final int[][] rowCounts = new int[statements.size()][];
+		private int failedStatement = -1;
+		private Exception failure;
+		private CompletableFuture<Void> future;
+
+		private void executeBatches() {
+			for ( int i = 0; i < statements.size(); i++ ) {
+				if ( batchPositions[i] > 0 ) {
+					try {
+						rowCounts[i] = statements.get( i ).getStatement().executeBatch();
+					}
+					catch (SQLException | RuntimeException e) {
+						failedStatement = i;
+						failure = e;
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatch(" + getKey().toLoggableString() + ")";
+	}
+}
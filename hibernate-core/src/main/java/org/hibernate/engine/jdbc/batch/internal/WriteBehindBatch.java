@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * Batch which never executes its statements itself, but hands the parameter
+ * bindings collected for each row off to the {@link WriteBehindQueue} of the
+ * current JTA transaction, where they are merged with the rows of other
+ * sessions, and executed when the transaction completes.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_WRITE_BEHIND
+ */
+public class WriteBehindBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final PreparedStatementGroup statementGroup;
+	private final List<WriteBehindQueue.Statement> statements;
+	private final List<TableMapping> tables;
+	private final WriteBehindQueue queue;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	// the bindings of each row, per statement, or null if the row does not affect the table
+	private List<Binding[][]> rows = new ArrayList<>();
+
+	public WriteBehindBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			WriteBehindQueue queue,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.queue = queue;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.sqlStatementLogger = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext()
+				.getJdbcServices().getSqlStatementLogger();
+
+		this.statements = new ArrayList<>( statementGroup.getNumberOfStatements() );
+		this.tables = new ArrayList<>( statementGroup.getNumberOfStatements() );
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			statements.add( WriteBehindQueue.Statement.from( statementDetails ) );
+			tables.add( statementDetails.getMutatingTableDetails() );
+		} );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef( "Created write-behind Batch - `%s`", key.toLoggableString() );
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to write-behind JDBC batch (%s) - `%s`",
+					rows.size() + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final Binding[][] row = new Binding[statements.size()][];
+		for ( int i = 0; i < row.length; i++ ) {
+			final TableMapping tableDetails = tables.get( i );
+			if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+				sqlStatementLogger.logStatement( statements.get( i ).sql() );
+				final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+				row[i] = bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS );
+				jdbcValueBindings.afterStatement( tableDetails );
+			}
+		}
+		rows.add( row );
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		if ( rows.isEmpty() ) {
+			if ( BATCH_LOGGER.isDebugEnabled() ) {
+				BATCH_LOGGER.debugf( "No batched statements to hand off - %s", getKey().toLoggableString() );
+			}
+		}
+		else {
+			final List<Binding[][]> handedOffRows = rows;
+			rows = new ArrayList<>();
+			queue.enqueue( key, statements, handedOffRows );
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			rows.clear();
+		}
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "WriteBehindBatch(" + getKey().toLoggableString() + ")";
+	}
+}
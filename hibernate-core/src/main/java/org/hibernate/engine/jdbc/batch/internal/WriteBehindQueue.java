@@ -0,0 +1,276 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * The statements handed off by the {@link WriteBehindBatch}es of all sessions
+ * taking part in one JTA transaction, executed before the transaction completes.
+ * <p>
+ * Rows handed off with the same {@link BatchKey} and SQL as the last group
+ * are merged into that group, and so into the same JDBC batch. Rows are never
+ * merged into an earlier group, since that would move them before statements
+ * handed off since, by the same or another session, which they might depend
+ * on, for example through a foreign key. The statements are executed in the
+ * order they were handed off across all the sessions.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_WRITE_BEHIND
+ */
+public class WriteBehindQueue implements Synchronization {
+
+	/**
+	 * A statement of a {@link WriteBehindBatch}, detached from the session
+	 * which prepared it.
+	 */
+	public record Statement(String sql, String tableName, boolean identifierTable, Expectation expectation) {
+		static Statement from(PreparedStatementDetails statementDetails) {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			return new Statement(
+					statementDetails.getSqlString(),
+					tableDetails.getTableName(),
+					tableDetails.isIdentifierTable(),
+					statementDetails.getExpectation()
+			);
+		}
+	}
+
+	private static class Group {
+		private final BatchKey key;
+		private final List<Statement> statements;
+		private final List<Binding[][]> rows = new ArrayList<>();
+
+		private Group(BatchKey key, List<Statement> statements) {
+			this.key = key;
+			this.statements = statements;
+		}
+
+		private boolean accepts(BatchKey key, List<Statement> statements) {
+			if ( !this.key.equals( key ) || this.statements.size() != statements.size() ) {
+				return false;
+			}
+			for ( int i = 0; i < statements.size(); i++ ) {
+				if ( !this.statements.get( i ).sql().equals( statements.get( i ).sql() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final Object transactionIdentifier;
+	private final Map<Object, WriteBehindQueue> queues;
+	private final SessionFactoryImplementor factory;
+	private final JdbcConnectionAccess jdbcConnectionAccess;
+
+	private final List<Group> groups = new ArrayList<>();
+	private boolean executed;
+
+	WriteBehindQueue(
+			Object transactionIdentifier,
+			Map<Object, WriteBehindQueue> queues,
+			SessionFactoryImplementor factory,
+			JdbcConnectionAccess jdbcConnectionAccess) {
+		this.transactionIdentifier = transactionIdentifier;
+		this.queues = queues;
+		this.factory = factory;
+		this.jdbcConnectionAccess = jdbcConnectionAccess;
+	}
+
+	/**
+	 * Can the statements of the given group be executed outside the session?
+	 */
+	static boolean isWriteBehindPossible(PreparedStatementGroup statementGroup) {
+		final boolean[] possible = { true };
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			final Class<?> expectationClass = statementDetails.getExpectation().getClass();
+			if ( hasCustomSql( tableDetails.getInsertDetails() )
+					|| hasCustomSql( tableDetails.getUpdateDetails() )
+					|| hasCustomSql( tableDetails.getDeleteDetails() )
+					|| expectationClass != Expectation.RowCount.class && expectationClass != Expectation.None.class ) {
+				possible[0] = false;
+			}
+		} );
+		return possible[0];
+	}
+
+	private static boolean hasCustomSql(TableMapping.MutationDetails mutationDetails) {
+		return mutationDetails != null && mutationDetails.getCustomSql() != null;
+	}
+
+	/**
+	 * Add the given rows, handed off by the batch of a session, to the queue.
+	 */
+	public synchronized void enqueue(
+			BatchKey key,
+			List<Statement> statements,
+			List<Binding[][]> rows) {
+		if ( executed ) {
+			// a session flushed after the transaction started completing
+			final Group group = new Group( key, statements );
+			group.rows.addAll( rows );
+			execute( List.of( group ) );
+			return;
+		}
+
+		final Group last = groups.isEmpty() ? null : groups.get( groups.size() - 1 );
+		if ( last != null && last.accepts( key, statements ) ) {
+			last.rows.addAll( rows );
+		}
+		else {
+			final Group group = new Group( key, statements );
+			group.rows.addAll( rows );
+			groups.add( group );
+		}
+	}
+
+	@Override
+	public synchronized void beforeCompletion() {
+		executed = true;
+		try {
+			execute( groups );
+		}
+		finally {
+			groups.clear();
+		}
+	}
+
+	@Override
+	public void afterCompletion(int status) {
+		if ( status != Status.STATUS_COMMITTED ) {
+			synchronized ( this ) {
+				groups.clear();
+			}
+		}
+		queues.remove( transactionIdentifier, this );
+	}
+
+	private void execute(List<Group> groups) {
+		if ( groups.isEmpty() ) {
+			return;
+		}
+
+		final SqlExceptionHelper sqlExceptionHelper = factory.getJdbcServices().getSqlExceptionHelper();
+		final Connection connection;
+		try {
+			connection = jdbcConnectionAccess.obtainConnection();
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection for write-behind batch" );
+		}
+		try {
+			for ( Group group : groups ) {
+				execute( group, connection, sqlExceptionHelper );
+			}
+		}
+		finally {
+			try {
+				jdbcConnectionAccess.releaseConnection( connection );
+			}
+			catch (SQLException e) {
+				sqlExceptionHelper.logExceptions( e, "Unable to release JDBC Connection used for write-behind batch" );
+			}
+		}
+	}
+
+	private void execute(Group group, Connection connection, SqlExceptionHelper sqlExceptionHelper) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing write-behind JDBC batch (%s) - `%s`",
+					group.rows.size(),
+					group.key.toLoggableString()
+			);
+		}
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecuted( group.rows.size() );
+		}
+
+		final WrapperOptions wrapperOptions = factory.getWrapperOptions();
+		for ( int i = 0; i < group.statements.size(); i++ ) {
+			final Statement statementDetails = group.statements.get( i );
+			final String sql = statementDetails.sql();
+			try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+				int batchPosition = 0;
+				for ( Binding[][] row : group.rows ) {
+					if ( row[i] != null ) {
+						for ( Binding binding : row[i] ) {
+							binding.getValueBinder().bind(
+									statement,
+									binding.getValue(),
+									binding.getPosition(),
+									wrapperOptions
+							);
+						}
+						statement.addBatch();
+						batchPosition++;
+					}
+				}
+				if ( batchPosition > 0 ) {
+					final int[] rowCounts = statement.executeBatch();
+					if ( statementDetails.identifierTable() ) {
+						checkRowCounts( rowCounts, batchPosition, statement, statementDetails );
+					}
+				}
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw e;
+			}
+		}
+	}
+
+	private static void checkRowCounts(
+			int[] rowCounts,
+			int batchPosition,
+			PreparedStatement statement,
+			Statement statementDetails) throws SQLException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( numberOfRowCounts != batchPosition ) {
+			JDBC_MESSAGE_LOGGER.unexpectedRowCounts( statementDetails.tableName(), numberOfRowCounts, batchPosition );
+		}
+
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			statementDetails.expectation().verifyOutcome( rowCounts[i], statement, i, statementDetails.sql() );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "WriteBehindQueue(" + transactionIdentifier + ")";
+	}
+}
@@ -19,6 +19,8 @@ import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatch;
+import org.hibernate.engine.jdbc.batch.internal.WriteBehindBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -150,7 +152,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
 		Connection connection;
 		try {
-			if ( currentBatch != null ) {
+			if ( currentBatch instanceof WriteBehindBatch ) {
+				// the statements are executed by the transaction, not by this session
+				executeBatch();
+			}
+			else if ( currentBatch != null ) {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
@@ -210,6 +216,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * Wait for the {@linkplain PipelinedBatch asynchronous execution} of the
+	 * current batch, if any, before using the connection for another statement.
+	 */
+	public void awaitBatchExecution() {
+		if ( currentBatch instanceof PipelinedBatch pipelinedBatch ) {
+			pipelinedBatch.awaitExecution();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -296,6 +312,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -435,6 +452,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public void beforeTransactionCompletion() {
 		owner.beforeTransactionCompletion();
+		awaitBatchExecution();
 		logicalConnection.beforeTransactionCompletion();
 	}
 
@@ -92,6 +92,8 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		}
 
 		public PreparedStatement prepareStatement() {
+			// a pipelined batch might be executing on the connection
+			jdbcCoordinator.awaitBatchExecution();
 			try {
 				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
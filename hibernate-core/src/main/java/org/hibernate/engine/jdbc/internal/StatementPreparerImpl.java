@@ -66,6 +66,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	
 	@Override
 	public Statement createStatement() {
+		jdbcCoordinator.awaitBatchExecution();
 		try {
 			final Statement statement = connection().createStatement();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( statement, true );
@@ -167,6 +168,8 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 
 		public PreparedStatement prepareStatement() {
+			// a pipelined batch might be executing on the connection
+			jdbcCoordinator.awaitBatchExecution();
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
@@ -10,8 +10,10 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 
 import org.hibernate.Incubating;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -31,6 +33,15 @@ public interface PreparedStatementDetails {
 	 */
 	String getSqlString();
 
+	/**
+	 * The operation the statement executes, or {@code null} if not known
+	 *
+	 * @since 7.0
+	 */
+	default PreparableMutationOperation getMutationOperation() {
+		return null;
+	}
+
 	/**
 	 * The {@link PreparedStatement} generated from the SQL.  May return null.
 	 *
@@ -58,4 +69,13 @@ public interface PreparedStatementDetails {
 	}
 
 	void releaseStatement(SharedSessionContractImplementor session);
+
+	/**
+	 * The group in which the parameter bindings of the statement are collected.
+	 * The same group may be returned for every row executed using the statement,
+	 * and is {@linkplain BindingGroup#clear() cleared} between rows.
+	 */
+	default BindingGroup getBindingGroup() {
+		return new BindingGroup( getMutatingTableDetails().getTableName() );
+	}
 }
@@ -11,6 +11,7 @@ import java.util.Locale;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
@@ -59,6 +60,12 @@ public abstract class AbstractSingleMutationExecutor extends AbstractMutationExe
 		return mutationOperation.findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public BindingGroup resolveBindingGroup(String tableName) {
+		// reused across the rows of a batch
+		return getStatementGroup().getSingleStatementDetails().getBindingGroup();
+	}
+
 	@Override
 	public JdbcValueBindings getJdbcValueBindings() {
 		return valueBindings;
@@ -70,7 +70,9 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 			return existing;
 		}
 
-		final BindingGroup created = new BindingGroup( tableName );
+		final BindingGroup created = jdbcValueDescriptorAccess.resolveBindingGroup( tableName );
+		// a group reused from a previous row which failed might still hold its bindings
+		created.clear();
 		bindingGroupMap.put( tableName, created );
 		return created;
 	}
@@ -126,5 +128,15 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		}
 
 		JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage);
+
+		/**
+		 * The group in which to collect the bindings for the given table,
+		 * which may be reused across rows
+		 *
+		 * @see PreparedStatementDetails#getBindingGroup()
+		 */
+		default BindingGroup resolveBindingGroup(String tableName) {
+			return new BindingGroup( tableName );
+		}
 	}
 }
@@ -21,6 +21,7 @@ import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.spi.BatchKeyAccess;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
@@ -187,6 +188,13 @@ public class MutationExecutorStandard extends AbstractMutationExecutor implement
 		return mutationOperationGroup.getOperation( tableName ).findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public BindingGroup resolveBindingGroup(String tableName) {
+		// reused across the rows of a batch
+		final PreparedStatementDetails statementDetails = getPreparedStatementDetails( tableName );
+		return statementDetails == null ? new BindingGroup( tableName ) : statementDetails.getBindingGroup();
+	}
+
 	@Override
 	public PreparedStatementDetails getPreparedStatementDetails(String tableName) {
 		final StatementLocation statementLocation = statementLocationMap.get( tableName );
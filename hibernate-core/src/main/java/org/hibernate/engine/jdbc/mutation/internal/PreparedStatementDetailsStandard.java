@@ -12,6 +12,7 @@ import java.util.function.Supplier;
 
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
@@ -26,11 +27,13 @@ import org.hibernate.sql.model.TableMapping;
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
+	private final PreparableMutationOperation mutationOperation;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
 	private final Expectation expectation;
 	private final JdbcServices jdbcServices;
 
 	private PreparedStatement statement;
+	private BindingGroup bindingGroup;
 
 	public PreparedStatementDetailsStandard(
 			PreparableMutationOperation tableMutation,
@@ -52,6 +55,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 			Expectation expectation,
 			JdbcServices jdbcServices) {
 		this.mutatingTableDetails = tableMutation.getTableDetails();
+		this.mutationOperation = tableMutation;
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
 		this.expectation = expectation;
@@ -71,11 +75,24 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		}
 	}
 
+	@Override
+	public BindingGroup getBindingGroup() {
+		if ( bindingGroup == null ) {
+			bindingGroup = new BindingGroup( mutatingTableDetails.getTableName() );
+		}
+		return bindingGroup;
+	}
+
 	@Override
 	public String getSqlString() {
 		return sql;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutationOperation() {
+		return mutationOperation;
+	}
+
 	@Override
 	public PreparedStatement getStatement() {
 		return statement;
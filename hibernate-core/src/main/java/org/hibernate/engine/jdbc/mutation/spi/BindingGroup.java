@@ -6,28 +6,39 @@
  */
 package org.hibernate.engine.jdbc.mutation.spi;
 
-import java.util.Comparator;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Consumer;
 
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
  * Group of all parameter {@linkplain #getBindings() bindings} for a table.
+ * <p>
+ * The bindings are held in an array indexed by JDBC parameter position, so
+ * that they are visited in sequential order, and so that the group may be
+ * {@linkplain #clear() cleared} and reused for the next row without any
+ * allocation beyond the bindings themselves.
  *
  * @author Steve Ebersole
  */
 public class BindingGroup {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
 	private final String tableName;
-	private final Set<Binding> bindings;
+	private final Set<Binding> bindings = new Bindings();
+
+	// indexed by JDBC position - 1
+	private Binding[] bindingsByPosition = NO_BINDINGS;
+	private int size;
+	private int highestPosition;
 
 	public BindingGroup(String tableName) {
 		this.tableName = tableName;
-		// todo (6.2) : TreeSet to log the parameter binding sequentially
-		//		- if we don't care, this can be another type of Set for perf
-		this.bindings = new TreeSet<>( Comparator.comparing( Binding::getPosition ) );
 	}
 
 	/**
@@ -38,17 +49,22 @@ public class BindingGroup {
 	}
 
 	/**
-	 * The parameter bindings
+	 * The parameter bindings, ordered by position
 	 */
 	public Set<Binding> getBindings() {
 		return bindings;
 	}
 
 	/**
-	 * Visit each parameter binding
+	 * Visit each parameter binding, in order of position
 	 */
 	public void forEachBinding(Consumer<Binding> action) {
-		bindings.forEach( action );
+		for ( int i = 0; i < highestPosition; i++ ) {
+			final Binding binding = bindingsByPosition[i];
+			if ( binding != null ) {
+				action.accept( binding );
+			}
+		}
 	}
 
 	/**
@@ -56,13 +72,85 @@ public class BindingGroup {
 	 */
 	public void bindValue(String columnName, Object value, JdbcValueDescriptor valueDescriptor) {
 		assert Objects.equals( columnName, valueDescriptor.getColumnName() );
-		bindings.add( new Binding( columnName, value, valueDescriptor ) );
+		final int position = valueDescriptor.getJdbcPosition();
+		// the first binding of a position wins
+		if ( !isBound( position ) ) {
+			addBinding( position, new Binding( columnName, value, valueDescriptor ) );
+		}
+	}
+
+	private boolean isBound(int position) {
+		return position <= highestPosition && bindingsByPosition[position - 1] != null;
+	}
+
+	private void addBinding(int position, Binding binding) {
+		if ( position > bindingsByPosition.length ) {
+			bindingsByPosition = Arrays.copyOf( bindingsByPosition, Math.max( position, bindingsByPosition.length * 2 ) );
+		}
+		bindingsByPosition[position - 1] = binding;
+		highestPosition = Math.max( highestPosition, position );
+		size++;
 	}
 
 	/**
-	 * Clear the {@linkplain #getBindings() bindings}
+	 * Clear the {@linkplain #getBindings() bindings}, keeping the storage
+	 * for reuse by the next row
 	 */
 	public void clear() {
-		bindings.clear();
+		Arrays.fill( bindingsByPosition, 0, highestPosition, null );
+		highestPosition = 0;
+		size = 0;
+	}
+
+	private class Bindings extends AbstractSet<Binding> {
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<Binding> iterator() {
+			return new Iterator<>() {
+				private int next = advance( 0 );
+
+				private int advance(int from) {
+					int position = from;
+					while ( position < highestPosition && bindingsByPosition[position] == null ) {
+						position++;
+					}
+					return position;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return next < highestPosition;
+				}
+
+				@Override
+				public Binding next() {
+					if ( !hasNext() ) {
+						throw new NoSuchElementException();
+					}
+					final Binding binding = bindingsByPosition[next];
+					next = advance( next + 1 );
+					return binding;
+				}
+			};
+		}
+
+		@Override
+		public boolean add(Binding binding) {
+			final int position = binding.getPosition();
+			if ( isBound( position ) ) {
+				return false;
+			}
+			addBinding( position, binding );
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			BindingGroup.this.clear();
+		}
 	}
 }
@@ -123,6 +123,12 @@ public abstract class AbstractDelegatingSessionBuilder implements SessionBuilder
 		return this;
 	}
 
+	@Override
+	public SessionBuilder autoFlushAndClear(int managedEntityThreshold) {
+		delegate.autoFlushAndClear( managedEntityThreshold );
+		return this;
+	}
+
 	@Override
 	public SessionBuilder flushMode(FlushMode flushMode) {
 		delegate.flushMode( flushMode );
@@ -153,6 +153,12 @@ public abstract class AbstractDelegatingSharedSessionBuilder implements SharedSe
 		return this;
 	}
 
+	@Override
+	public SharedSessionBuilder autoFlushAndClear(int managedEntityThreshold) {
+		delegate.autoFlushAndClear( managedEntityThreshold );
+		return this;
+	}
+
 	@Override
 	public SharedSessionBuilder flushMode(FlushMode flushMode) {
 		delegate.flushMode( flushMode );
@@ -10,8 +10,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -60,6 +60,7 @@ import org.hibernate.type.Type;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.addAll;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -487,6 +488,68 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Perform the queued delayed insertions of the given entity instances,
+	 * whose identifiers are generated by the insert, removing them from the
+	 * queue, and leaving every other queued action untouched. Consecutive
+	 * insertions of instances of the same entity are executed together, by
+	 * a multi-row insert when possible.
+	 *
+	 * @param instances The entity instances, compared by identity
+	 *
+	 * @throws HibernateException error executing the insertion actions.
+	 */
+	public void executeIdentityInserts(Set<?> instances) throws HibernateException {
+		if ( insertions == null || insertions.isEmpty() ) {
+			return;
+		}
+		final List<EntityIdentityInsertAction> identityInsertions = new ArrayList<>();
+		for ( int i = 0; i < insertions.size(); i++ ) {
+			if ( insertions.get( i ) instanceof EntityIdentityInsertAction insertAction
+					&& insertAction.isMultipleInsertable()
+					&& instances.contains( insertAction.getInstance() ) ) {
+				identityInsertions.add( insertAction );
+				insertions.remove( i-- );
+			}
+		}
+		if ( identityInsertions.isEmpty() ) {
+			return;
+		}
+
+		final Set<Serializable> spaces = new HashSet<>();
+		try {
+			int start = 0;
+			while ( start < identityInsertions.size() ) {
+				final EntityPersister persister = identityInsertions.get( start ).getPersister();
+				int end = start + 1;
+				while ( end < identityInsertions.size() && identityInsertions.get( end ).getPersister() == persister ) {
+					end++;
+				}
+				final List<EntityIdentityInsertAction> group = identityInsertions.subList( start, end );
+				try {
+					if ( group.size() > 1 ) {
+						EntityIdentityInsertAction.executeMultiple( group );
+					}
+					else {
+						group.get( 0 ).execute();
+					}
+				}
+				finally {
+					for ( EntityIdentityInsertAction insertion : group ) {
+						addAll( spaces, insertion.getPropertySpaces() );
+						registerTransactionCompletionProcesses( insertion );
+					}
+				}
+				start = end;
+			}
+		}
+		finally {
+			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+				invalidateSpaces( spaces.toArray( new String[0] ) );
+			}
+		}
+	}
+
 	/**
 	 * Perform all currently queued actions.
 	 *
@@ -638,25 +701,46 @@ public class ActionQueue {
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		final boolean bulkDeletes = session.getFactory().getSessionFactoryOptions().isJdbcBatchBulkDeletes();
 		try {
-			for ( ComparableExecutable e : list ) {
-				try {
-					e.execute();
-				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			for ( int i = 0; i < list.size(); i++ ) {
+				final ComparableExecutable e = list.get( i );
+				if ( e instanceof EntityIdentityInsertAction insertAction && insertAction.isMultipleInsertable() ) {
+					final List<EntityIdentityInsertAction> insertions = collectMultipleInsertions( list, i, insertAction );
+					if ( insertions.size() > 1 ) {
+						try {
+							EntityIdentityInsertAction.executeMultiple( insertions );
+						}
+						finally {
+							for ( EntityIdentityInsertAction insertion : insertions ) {
+								registerTransactionCompletionProcesses( insertion );
+							}
 						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+						i += insertions.size() - 1;
+						continue;
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+				}
+				if ( bulkDeletes && e instanceof EntityDeleteAction deleteAction && deleteAction.isBulkDeletable() ) {
+					final List<EntityDeleteAction> bulkDeletions = collectBulkDeletions( list, i, deleteAction );
+					if ( bulkDeletions.size() > 1 ) {
+						try {
+							EntityDeleteAction.executeBulk( bulkDeletions );
+						}
+						finally {
+							for ( EntityDeleteAction bulkDeletion : bulkDeletions ) {
+								registerTransactionCompletionProcesses( bulkDeletion );
+							}
 						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+						i += bulkDeletions.size() - 1;
+						continue;
 					}
 				}
+				try {
+					e.execute();
+				}
+				finally {
+					registerTransactionCompletionProcesses( e );
+				}
 			}
 		}
 		finally {
@@ -674,6 +758,67 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerTransactionCompletionProcesses(ComparableExecutable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Collect the bulk deletable deletions of instances of the same entity
+	 * as the given deletion, which immediately follow it in the given list.
+	 */
+	private static List<EntityDeleteAction> collectBulkDeletions(
+			ExecutableList<?> list,
+			int start,
+			EntityDeleteAction first) {
+		final List<EntityDeleteAction> bulkDeletions = new ArrayList<>();
+		bulkDeletions.add( first );
+		for ( int i = start + 1; i < list.size(); i++ ) {
+			if ( list.get( i ) instanceof EntityDeleteAction deleteAction
+					&& deleteAction.getPersister() == first.getPersister()
+					&& deleteAction.isBulkDeletable() ) {
+				bulkDeletions.add( deleteAction );
+			}
+			else {
+				break;
+			}
+		}
+		return bulkDeletions;
+	}
+
+	/**
+	 * Collect the delayed identity insertions of instances of the same entity
+	 * as the given insertion, which immediately follow it in the given list.
+	 */
+	private static List<EntityIdentityInsertAction> collectMultipleInsertions(
+			ExecutableList<?> list,
+			int start,
+			EntityIdentityInsertAction first) {
+		final List<EntityIdentityInsertAction> insertions = new ArrayList<>();
+		insertions.add( first );
+		for ( int i = start + 1; i < list.size(); i++ ) {
+			if ( list.get( i ) instanceof EntityIdentityInsertAction insertAction
+					&& insertAction.getPersister() == first.getPersister()
+					&& insertAction.isMultipleInsertable() ) {
+				insertions.add( insertAction );
+			}
+			else {
+				break;
+			}
+		}
+		return insertions;
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -1097,13 +1242,16 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
-	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
+	 * The algorithm first discovers the direct dependencies between the insert actions, forming a dependency
+	 * graph, and groups all inserts by the entity name. It then sorts the graph topologically, always scheduling
+	 * the whole group of ready inserts of a single entity, so that inserts against the same table end up in as
+	 * few batches as possible. A group in which every remaining insert is ready is preferred, and otherwise the
+	 * group with the most ready inserts. Inserts which depend on an insert of their own group, for example in a
+	 * self-referencing association, become ready and are scheduled in the same run as the insert they depend on.
+	 * <p>
+	 * Each insert and each dependency is visited once, so the sort is linear in the size of the flush for a given
+	 * number of entity names. Inserts which can't be scheduled, because of a circular dependency between them,
+	 * are going to be inserted in the original order, after all other inserts.
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
 		/**
@@ -1113,17 +1261,16 @@ public class ActionQueue {
 
 		private static class InsertInfo {
 			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
+			private final EntityInsertGroup insertGroup;
+			// Inserts in this list must be executed after this insert
+			private List<InsertInfo> dependents;
+			// The number of inserts which must be executed before this insert, and are not yet scheduled
+			private int pendingDependencies;
+			private boolean scheduled;
+
+			public InsertInfo(AbstractEntityInsertAction insertAction, EntityInsertGroup insertGroup) {
 				this.insertAction = insertAction;
-				this.index = index;
+				this.insertGroup = insertGroup;
 			}
 
 			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
@@ -1134,35 +1281,16 @@ public class ActionQueue {
 				}
 			}
 
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
-					}
-				}
-			}
-
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
+			/**
+			 * Record that the given insert must be executed after this insert
+			 */
+			private void addDependent(InsertInfo dependent) {
+				if ( dependent != this ) {
+					if ( dependents == null ) {
+						dependents = new ArrayList<>();
 					}
+					dependents.add( dependent );
+					dependent.pendingDependencies++;
 				}
 			}
 
@@ -1176,18 +1304,13 @@ public class ActionQueue {
 					if ( insertInfo != null ) {
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+							// Child dependencies of i.e. inverse one-to-one
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								addDependent( insertInfo );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							insertInfo.addDependent( this );
 						}
 					}
 				}
@@ -1207,10 +1330,7 @@ public class ActionQueue {
 							final Object element = elementsIterator.next();
 							final InsertInfo insertInfo = insertInfosByEntity.get( element );
 							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
+								addDependent( insertInfo );
 							}
 						}
 					}
@@ -1228,24 +1348,6 @@ public class ActionQueue {
 				}
 			}
 
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
-			}
-
 			@Override
 			public String toString() {
 				return "InsertInfo{" +
@@ -1267,128 +1369,93 @@ public class ActionQueue {
 			// A map of all insert infos keyed by the entity instance
 			// This is needed to discover insert infos for direct dependencies
 			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
+			// The insert infos grouped into EntityInsertGroup keyed by entity name
+			final Map<String, EntityInsertGroup> insertGroupsByEntityName = new LinkedHashMap<>();
 			// Construct insert infos and build a map for that, keyed by entity instance
-			for (int i = 0; i < insertInfoCount; i++) {
-				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
-				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
+			for ( int i = 0; i < insertInfoCount; i++ ) {
+				final AbstractEntityInsertAction insertAction = insertions.get( i );
+				final EntityInsertGroup insertGroup = insertGroupsByEntityName.computeIfAbsent(
+						insertAction.getPersister().getEntityName(),
+						EntityInsertGroup::new
+				);
+				final InsertInfo insertInfo = new InsertInfo( insertAction, insertGroup );
+				insertGroup.remaining++;
+				insertInfosByEntity.put( insertAction.getInstance(), insertInfo );
 				insertInfos[i] = insertInfo;
 			}
 			// First we must discover the direct dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
-			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
-			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
+			for ( int i = 0; i < insertInfoCount; i++ ) {
+				insertInfos[i].buildDirectDependencies( insertInfosByEntity );
+			}
+			// Inserts without dependencies are ready to be scheduled
+			for ( int i = 0; i < insertInfoCount; i++ ) {
 				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
+				if ( insertInfo.pendingDependencies == 0 ) {
+					insertInfo.insertGroup.ready.add( insertInfo );
 				}
-				entityInsertGroup.add(insertInfo);
-			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
-			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
-					}
-				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
-					"This might indicate a circular entity relationship.");
 			}
+			// Now we repeatedly pick an EntityInsertGroup with ready inserts and schedule them,
+			// which in turn makes the inserts depending on them ready
 			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
+			EntityInsertGroup insertGroup;
+			while ( ( insertGroup = nextInsertGroup( insertGroupsByEntityName ) ) != null ) {
+				insertGroup.schedule( insertions );
+			}
+			if ( insertions.size() != insertInfoCount ) {
+				LOG.warn("The batch containing " + insertInfoCount + " statements could not be sorted. " +
+					"This might indicate a circular entity relationship.");
+				for ( InsertInfo insertInfo : insertInfos ) {
+					if ( !insertInfo.scheduled ) {
+						insertions.add( insertInfo.insertAction );
+					}
 				}
 			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+		}
+
+		private static @Nullable EntityInsertGroup nextInsertGroup(Map<String, EntityInsertGroup> insertGroupsByEntityName) {
+			EntityInsertGroup next = null;
+			final Iterator<EntityInsertGroup> iterator = insertGroupsByEntityName.values().iterator();
+			while ( iterator.hasNext() ) {
+				final EntityInsertGroup insertGroup = iterator.next();
+				if ( insertGroup.remaining == 0 ) {
+					iterator.remove();
+				}
+				else if ( !insertGroup.ready.isEmpty() ) {
+					if ( insertGroup.ready.size() == insertGroup.remaining ) {
+						// all remaining inserts of this group can be scheduled together
+						return insertGroup;
+					}
+					else if ( next == null || insertGroup.ready.size() > next.ready.size() ) {
+						next = insertGroup;
+					}
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
+			return next;
 		}
 
 		public static class EntityInsertGroup {
 			private final String entityName;
-			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+			// The inserts of this group whose dependencies are all scheduled
+			private final ArrayDeque<InsertInfo> ready = new ArrayDeque<>();
+			// The number of inserts of this group which are not yet scheduled
+			private int remaining;
 
 			public EntityInsertGroup(String entityName) {
 				this.entityName = entityName;
 			}
 
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
+			private void schedule(List<AbstractEntityInsertAction> insertions) {
+				InsertInfo insertInfo;
+				while ( ( insertInfo = ready.poll() ) != null ) {
+					insertions.add( insertInfo.insertAction );
+					insertInfo.scheduled = true;
+					remaining--;
+					if ( insertInfo.dependents != null ) {
+						for ( InsertInfo dependent : insertInfo.dependents ) {
+							if ( --dependent.pendingDependencies == 0 ) {
+								dependent.insertGroup.ready.add( dependent );
+							}
+						}
 					}
 				}
 			}
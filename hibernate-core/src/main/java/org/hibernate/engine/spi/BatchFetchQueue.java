@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -66,6 +67,12 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of entities, by entity name, and of collections, by role, which were
+	 * fetched one at a time. Used to detect N+1 selects, so not reset by {@link #clear()}.
+	 */
+	private @Nullable Map<String, Integer> singleKeyFetchCounts;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -87,6 +94,22 @@ public class BatchFetchQueue {
 	}
 
 
+	/**
+	 * Record the fetch of a single entity, or collection, of the given entity
+	 * name, or collection role, which was not batch fetched.
+	 *
+	 * @return the number of such fetches recorded for the given name so far
+	 *
+	 * @since 7.0
+	 */
+	public int recordSingleKeyFetch(String role) {
+		if ( singleKeyFetchCounts == null ) {
+			singleKeyFetchCounts = CollectionHelper.mapOfSize( 8 );
+		}
+		return singleKeyFetchCounts.merge( role, 1, Integer::sum );
+	}
+
+
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -171,9 +194,22 @@ public class BatchFetchQueue {
 	public void removeBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() )
 				&& batchLoadableEntityKeys != null ) {
-			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				set.remove( key );
+			final EntityPersister persister = key.getPersister();
+			if ( persister.getEntityMetamodel().isInherited() || persister.hasSubclasses() ) {
+				// the key might have been queued for a supertype or subtype
+				// of the type the entity was actually loaded as
+				for ( String entityName : persister.getRootEntityDescriptor().getSubclassEntityNames() ) {
+					final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityName );
+					if ( set != null ) {
+						set.remove( key );
+					}
+				}
+			}
+			else {
+				final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( key.getEntityName() );
+				if ( set != null ) {
+					set.remove( key );
+				}
 			}
 		}
 	}
@@ -191,6 +227,54 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The number of entities of the given type currently eligible for
+	 * batch-fetching.
+	 *
+	 * @since 7.0
+	 */
+	public int countBatchLoadableEntityKeys(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final Collection<EntityKey> keys = getBatchLoadableEntityKeys( entityDescriptor );
+		return keys == null ? 0 : keys.size();
+	}
+
+	/**
+	 * The keys pending for the given entity type, coalesced with the keys
+	 * pending for its subtypes, which might have been queued by associations
+	 * targeting the subtypes, since a loader for the type also loads instances
+	 * of its subtypes. Keys pending for a supertype are not included, since
+	 * they might not refer to instances of the given type.
+	 */
+	private @Nullable Collection<EntityKey> getBatchLoadableEntityKeys(EntityMappingType entityDescriptor) {
+		final String entityName = entityDescriptor.getEntityName();
+		Collection<EntityKey> keys = batchLoadableEntityKeys.get( entityName );
+		if ( entityDescriptor.hasSubclasses() ) {
+			boolean coalesced = false;
+			for ( String subclassEntityName : entityDescriptor.getSubclassEntityNames() ) {
+				if ( !subclassEntityName.equals( entityName ) ) {
+					final LinkedHashSet<EntityKey> subclassKeys = batchLoadableEntityKeys.get( subclassEntityName );
+					if ( subclassKeys != null && !subclassKeys.isEmpty() ) {
+						if ( keys == null || keys.isEmpty() ) {
+							keys = subclassKeys;
+						}
+						else {
+							if ( !coalesced ) {
+								// copy, preserving the order the keys were queued in
+								keys = new LinkedHashSet<>( keys );
+								coalesced = true;
+							}
+							keys.addAll( subclassKeys );
+						}
+					}
+				}
+			}
+		}
+		return keys;
+	}
+
 	/**
 	 * A "collector" form of {@link #getBatchLoadableEntityIds}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -209,7 +293,7 @@ public class BatchFetchQueue {
 			return;
 		}
 
-		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		final Collection<EntityKey> set = getBatchLoadableEntityKeys( entityDescriptor );
 		if ( set == null ) {
 			return;
 		}
@@ -268,10 +352,7 @@ public class BatchFetchQueue {
 		int end = -1;
 		boolean checkForEnd = false;
 
-		// TODO: this needn't exclude subclasses...
-
-		final LinkedHashSet<EntityKey> set =
-				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		final Collection<EntityKey> set = getBatchLoadableEntityKeys( entityDescriptor );
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
@@ -361,6 +442,21 @@ public class BatchFetchQueue {
 	}
 
 
+	/**
+	 * The number of collections of the given role currently eligible for
+	 * batch-fetching.
+	 *
+	 * @since 7.0
+	 */
+	public int countBatchLoadableCollections(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -7,7 +7,9 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +33,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.util.Collections.emptySet;
 import static org.hibernate.engine.FetchStyle.SUBSELECT;
+import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 
 /**
  * Centralize all options which can influence the SQL query needed to load an
@@ -59,6 +62,9 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private int batchSize = -1;
 
+	//Lazily initialized!
+	private @Nullable Map<String,Integer> batchSizesByRole;
+
 	private final EffectiveEntityGraph effectiveEntityGraph;
 
 	private Boolean readOnly;
@@ -317,7 +323,107 @@ public class LoadQueryInfluencers implements Serializable {
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * Enable batch fetching for the given entity, or collection role, overriding
+	 * the batch size of its mapping.
+	 *
+	 * @param role The name of a root entity, or a collection role
+	 * @param batchSize The batch size to use
+	 *
+	 * @since 7.0
+	 */
+	public void enableBatchFetching(String role, int batchSize) {
+		if ( batchSizesByRole == null ) {
+			batchSizesByRole = new HashMap<>();
+		}
+		batchSizesByRole.put( role, batchSize );
+	}
+
+	/**
+	 * Batch fetch the given collection roles, with at least the given batch size,
+	 * unless they are subselect fetched, while the given supplier executes, and
+	 * then restore their previous batch sizes.
+	 *
+	 * @param roles The collection roles
+	 * @param batchSize The minimum batch size to use
+	 *
+	 * @since 7.0
+	 */
+	public <T> T fromCollectionBatchFetching(Collection<String> roles, int batchSize, Supplier<T> supplier) {
+		final Map<String, Integer> previousBatchSizes = new HashMap<>();
+		for ( String role : roles ) {
+			final CollectionPersister persister =
+					sessionFactory.getMappingMetamodel().getCollectionDescriptor( role );
+			if ( !effectiveSubselectFetchEnabled( persister )
+					&& ( !effectivelyBatchLoadable( persister ) || effectiveBatchSize( persister ) < batchSize ) ) {
+				previousBatchSizes.put( role, batchSizesByRole == null ? null : batchSizesByRole.get( role ) );
+				enableBatchFetching( role, batchSize );
+			}
+		}
+		try {
+			return supplier.get();
+		}
+		finally {
+			restoreBatchSizes( previousBatchSizes );
+		}
+	}
+
+	/**
+	 * Batch fetch the given entities, with at least the given batch size, while
+	 * the given supplier executes, and then restore their previous batch sizes.
+	 *
+	 * @param entityNames The names of root entities
+	 * @param batchSize The minimum batch size to use
+	 *
+	 * @since 7.0
+	 */
+	public <T> T fromEntityBatchFetching(Collection<String> entityNames, int batchSize, Supplier<T> supplier) {
+		final Map<String, Integer> previousBatchSizes = new HashMap<>();
+		for ( String entityName : entityNames ) {
+			final EntityPersister persister =
+					sessionFactory.getMappingMetamodel().getEntityDescriptor( entityName );
+			if ( !effectivelyBatchLoadable( persister ) || effectiveBatchSize( persister ) < batchSize ) {
+				previousBatchSizes.put( entityName, batchSizesByRole == null ? null : batchSizesByRole.get( entityName ) );
+				enableBatchFetching( entityName, batchSize );
+			}
+		}
+		try {
+			return supplier.get();
+		}
+		finally {
+			restoreBatchSizes( previousBatchSizes );
+		}
+	}
+
+	private void restoreBatchSizes(Map<String, Integer> previousBatchSizes) {
+		if ( !previousBatchSizes.isEmpty() ) {
+			final Map<String, Integer> batchSizes = castNonNull( batchSizesByRole );
+			previousBatchSizes.forEach( (role, previousBatchSize) -> {
+				if ( previousBatchSize == null ) {
+					batchSizes.remove( role );
+				}
+				else {
+					batchSizes.put( role, previousBatchSize );
+				}
+			} );
+		}
+	}
+
+	/**
+	 * Was batch fetching {@linkplain #enableBatchFetching enabled} for the
+	 * given entity, or collection role?
+	 *
+	 * @since 7.0
+	 */
+	public boolean isBatchFetchingEnabled(String role) {
+		return batchSizesByRole != null && batchSizesByRole.containsKey( role );
+	}
+
 	public int effectiveBatchSize(CollectionPersister persister) {
+		final Integer roleBatchSize = batchSizesByRole == null ? null : batchSizesByRole.get( persister.getRole() );
+		if ( roleBatchSize != null ) {
+			return roleBatchSize;
+		}
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
@@ -325,10 +431,14 @@ public class LoadQueryInfluencers implements Serializable {
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
-		return batchSize > 1 || persister.isBatchLoadable();
+		return batchSize > 1 || persister.isBatchLoadable() || isBatchFetchingEnabled( persister.getRole() );
 	}
 
 	public int effectiveBatchSize(EntityPersister persister) {
+		final Integer roleBatchSize = batchSizesByRole == null ? null : batchSizesByRole.get( persister.getRootEntityName() );
+		if ( roleBatchSize != null ) {
+			return roleBatchSize;
+		}
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
@@ -336,7 +446,7 @@ public class LoadQueryInfluencers implements Serializable {
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
-		return batchSize > 1 || persister.isBatchLoadable();
+		return batchSize > 1 || persister.isBatchLoadable() || isBatchFetchingEnabled( persister.getRootEntityName() );
 	}
 
 	public boolean getSubselectFetchEnabled() {
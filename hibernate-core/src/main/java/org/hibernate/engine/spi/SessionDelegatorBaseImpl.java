@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -922,6 +923,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.persist( entityName, object );
 	}
 
+	@Override
+	public void persistAll(Collection<?> objects) {
+		delegate.persistAll( objects );
+	}
+
 	@Override
 	public void lock(Object object, LockMode lockMode) {
 		delegate.lock( object, lockMode );
@@ -1237,6 +1243,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.setSubselectFetchingEnabled( enabled );
 	}
 
+	@Override
+	public void prefetch(Collection<?> entities, String... attributePaths) {
+		delegate.prefetch( entities, attributePaths );
+	}
+
 	@Override
 	public int getFetchBatchSize() {
 		return delegate.getFetchBatchSize();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -259,6 +260,11 @@ public class SessionLazyDelegator implements Session {
 		this.lazySession.get().persist( entityName, object );
 	}
 
+	@Override
+	public void persistAll(Collection<?> objects) {
+		this.lazySession.get().persistAll( objects );
+	}
+
 	@Override
 	public void lock(Object object, LockMode lockMode) {
 		this.lazySession.get().lock( object, lockMode );
@@ -663,6 +669,11 @@ public class SessionLazyDelegator implements Session {
 		this.lazySession.get().setSubselectFetchingEnabled( enabled );
 	}
 
+	@Override
+	public void prefetch(Collection<?> entities, String... attributePaths) {
+		this.lazySession.get().prefetch( entities, attributePaths );
+	}
+
 	@Override
 	public HibernateCriteriaBuilder getCriteriaBuilder() {
 		return this.lazySession.get().getCriteriaBuilder();
@@ -120,6 +120,17 @@ public class SubselectFetch {
 
 	public interface RegistrationHandler {
 		void addKey(EntityHolder holder);
+
+		/**
+		 * Register the key of an entity which was returned at the given path
+		 * of the loading query, but which was not loaded by it, because it was
+		 * already associated with the session, so that its collections may be
+		 * sub-select fetched together with those of the entities it did load.
+		 *
+		 * @since 7.0
+		 */
+		default void addManagedKey(EntityKey key, NavigablePath navigablePath) {
+		}
 	}
 
 	private static final RegistrationHandler NO_OP_REG_HANDLER = new RegistrationHandler() {
@@ -152,21 +163,40 @@ public class SubselectFetch {
 			if ( batchFetchQueue.getSession().getLoadQueryInfluencers()
 					.hasSubselectLoadableCollections( holder.getDescriptor() ) ) {
 				final EntityInitializer<?> entityInitializer = NullnessUtil.castNonNull( holder.getEntityInitializer() );
-				final SubselectFetch subselectFetch = subselectFetches.computeIfAbsent(
-						entityInitializer.getNavigablePath(),
-						navigablePath -> new SubselectFetch(
-								loadingSqlAst.getQuerySpec(),
-								loadingSqlAst.getQuerySpec()
-										.getFromClause()
-										.findTableGroup( entityInitializer.getNavigablePath() ),
-								loadingJdbcParameters,
-								loadingJdbcParameterBindings,
-								new HashSet<>()
-						)
-				);
-				subselectFetch.resultingEntityKeys.add( holder.getEntityKey() );
-				batchFetchQueue.addSubselect( holder.getEntityKey(), subselectFetch );
+				addKey( holder.getEntityKey(), entityInitializer.getNavigablePath() );
+			}
+		}
+
+		@Override
+		public void addManagedKey(EntityKey key, NavigablePath navigablePath) {
+			// an entity already registered for a sub-select fetch keeps its registration,
+			// since the collections of its siblings might already have been fetched
+			if ( batchFetchQueue.getSubselect( key ) == null
+					&& batchFetchQueue.getSession().getLoadQueryInfluencers()
+							.hasSubselectLoadableCollections( key.getPersister() ) ) {
+				final TableGroup ownerTableGroup =
+						loadingSqlAst.getQuerySpec().getFromClause().findTableGroup( navigablePath );
+				if ( ownerTableGroup != null ) {
+					addKey( key, navigablePath );
+				}
 			}
 		}
+
+		private void addKey(EntityKey key, NavigablePath ownerPath) {
+			final SubselectFetch subselectFetch = subselectFetches.computeIfAbsent(
+					ownerPath,
+					navigablePath -> new SubselectFetch(
+							loadingSqlAst.getQuerySpec(),
+							loadingSqlAst.getQuerySpec()
+									.getFromClause()
+									.findTableGroup( navigablePath ),
+							loadingJdbcParameters,
+							loadingJdbcParameterBindings,
+							new HashSet<>()
+					)
+			);
+			subselectFetch.resultingEntityKeys.add( key );
+			batchFetchQueue.addSubselect( key, subselectFetch );
+		}
 	}
 }
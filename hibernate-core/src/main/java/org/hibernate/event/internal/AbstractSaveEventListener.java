@@ -130,12 +130,29 @@ public abstract class AbstractSaveEventListener<C>
 			persister.setIdentifier( entity, generatedId, source );
 		}
 		final boolean delayIdentityInserts =
-				!source.isTransactionInProgress()
+				generatedOnExecution
 						&& !requiresImmediateIdAccess
-						&& generatedOnExecution;
+						&& ( !source.isTransactionInProgress() || delayIdentityInsert( entity, persister, context, source ) );
 		return performSave( entity, generatedId, persister, generatedOnExecution, context, source, delayIdentityInserts );
 	}
 
+	/**
+	 * Should the insertion of an entity whose identifier is generated by the
+	 * insert be delayed, even though a transaction is in progress, so that
+	 * it can be executed together with other insertions by a multi-row insert?
+	 *
+	 * @param entity The entity instance being saved.
+	 * @param persister The entity's persister instance.
+	 * @param context Generally cascade-specific information.
+	 * @param source The session which is the source of the save event.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	protected boolean delayIdentityInsert(Object entity, EntityPersister persister, C context, EventSource source) {
+		return source.getFactory().getSessionFactoryOptions().isJdbcBatchIdentityInserts()
+			&& persister.getInsertCoordinator().supportsInsertMultiple();
+	}
+
 	/**
 	 * Generate an id before execution of the insert statements,
 	 * using the given {@link BeforeExecutionGenerator}.
@@ -66,6 +66,7 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				NPlusOneDetector.beforeCollectionFetch( loadedPersister, source );
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				if ( LOG.isTraceEnabled() ) {
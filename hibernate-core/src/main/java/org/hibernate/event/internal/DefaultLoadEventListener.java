@@ -541,11 +541,47 @@ public class DefaultLoadEventListener implements LoadEventListener {
 				}
 			}
 			else {
-				return load( event, persister, keyToLoad );
+				final Object loadingEntity = findLoadingEntity( event, persister, keyToLoad, options );
+				return loadingEntity == null ? load( event, persister, keyToLoad ) : loadingEntity;
 			}
 		}
 	}
 
+	/**
+	 * If the entity is already being loaded by an enclosing load, that is, this
+	 * is a re-entrant association fetch or proxy initialization for the same
+	 * entity, attach to that load instead of selecting the entity again.
+	 * Top-level loads requested by the application are never attached.
+	 */
+	private static Object findLoadingEntity(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad,
+			LoadType options) {
+		if ( !event.isAssociationFetch() && options != IMMEDIATE_LOAD
+				|| event.getInstanceToLoad() != null
+				|| event.getLockMode() != null && event.getLockMode().greaterThan( LockMode.READ ) ) {
+			return null;
+		}
+		final EventSource session = event.getSession();
+		final Object entity =
+				session.getPersistenceContextInternal().getLoadContexts().findLoadingEntity( keyToLoad );
+		if ( entity == null || !persister.isInstance( entity ) ) {
+			return null;
+		}
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Attaching to the load in progress of: {0}",
+					infoString( persister, event.getEntityId(), event.getFactory() )
+			);
+		}
+		final StatisticsImplementor statistics = event.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.deduplicatedEntityLoad( persister.getEntityName() );
+		}
+		return entity;
+	}
+
 	private static void initializeIfNecessary(Object entity) {
 		if ( isPersistentAttributeInterceptable( entity ) ) {
 			final PersistentAttributeInterceptable interceptable = asPersistentAttributeInterceptable( entity );
@@ -587,6 +623,9 @@ public class DefaultLoadEventListener implements LoadEventListener {
 						infoString( persister, event.getEntityId(), event.getFactory() )
 				);
 			}
+			if ( event.isAssociationFetch() ) {
+				NPlusOneDetector.beforeEntityFetch( persister, event.getSession() );
+			}
 			return loadFromDatasource( event, persister );
 		}
 	}
@@ -151,6 +151,16 @@ public class DefaultPersistEventListener
 		}
 	}
 
+	@Override
+	protected boolean delayIdentityInsert(
+			Object entity,
+			EntityPersister persister,
+			PersistContext createCache,
+			EventSource source) {
+		return super.delayIdentityInsert( entity, persister, createCache, source )
+			|| createCache.delayIdentityInsert( entity, persister );
+	}
+
 	private void entityIsDeleted(PersistEvent event, PersistContext createCache) {
 		final EventSource source = event.getSession();
 		final Object entity = source.getPersistenceContextInternal().unproxy( event.getObject() );
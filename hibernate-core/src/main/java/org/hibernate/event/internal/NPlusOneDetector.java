@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.event.internal;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Detects "N+1 selects", that is, repeated fetches of single entities of the same
+ * type, or of single collections of the same role, by one session, and reports the
+ * code which triggered them. Optionally, switches the entity type or collection role
+ * to batch fetching for the rest of the session.
+ *
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_BATCH_FETCH_SIZE
+ */
+public final class NPlusOneDetector {
+	private static final Logger LOG = CoreLogging.logger( NPlusOneDetector.class );
+
+	private NPlusOneDetector() {
+	}
+
+	/**
+	 * Called before an entity is fetched from the database by a proxy initialization,
+	 * or by an association fetch.
+	 */
+	public static void beforeEntityFetch(EntityPersister persister, SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getNPlusOneDetectionThreshold();
+		if ( threshold > 0 && !session.getLoadQueryInfluencers().effectivelyBatchLoadable( persister ) ) {
+			final String entityName = persister.getRootEntityName();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			if ( batchFetchQueue.recordSingleKeyFetch( entityName ) == threshold ) {
+				LOG.warnf(
+						"N+1 selects detected: %s instances of entity '%s' were fetched one at a time, the last one from %s",
+						threshold,
+						entityName,
+						callSite()
+				);
+				final int batchSize = options.getNPlusOneBatchFetchSize();
+				if ( batchSize > 1 ) {
+					LOG.debugf( "Enabling batch fetching of entity '%s' for the session : %s", entityName, batchSize );
+					session.getLoadQueryInfluencers().enableBatchFetching( entityName, batchSize );
+					// the proxies created so far were not queued for batch fetching
+					for ( EntityHolder holder : persistenceContext.getEntityHoldersByKey().values() ) {
+						if ( !holder.isEventuallyInitialized()
+								&& holder.getManagedObject() != null
+								&& entityName.equals( holder.getDescriptor().getRootEntityName() ) ) {
+							batchFetchQueue.addBatchLoadableEntityKey( holder.getEntityKey() );
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called before a lazy collection is initialized from the database.
+	 */
+	public static void beforeCollectionFetch(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getNPlusOneDetectionThreshold();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( threshold > 0
+				&& !influencers.effectivelyBatchLoadable( persister )
+				&& !influencers.effectiveSubselectFetchEnabled( persister ) ) {
+			final String role = persister.getRole();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			if ( batchFetchQueue.recordSingleKeyFetch( role ) == threshold ) {
+				LOG.warnf(
+						"N+1 selects detected: %s collections '%s' were fetched one at a time, the last one from %s",
+						threshold,
+						role,
+						callSite()
+				);
+				final int batchSize = options.getNPlusOneBatchFetchSize();
+				if ( batchSize > 1 ) {
+					LOG.debugf( "Enabling batch fetching of collection '%s' for the session : %s", role, batchSize );
+					influencers.enableBatchFetching( role, batchSize );
+					// the lazy collections created so far were not queued for batch fetching
+					persistenceContext.forEachCollectionEntry(
+							(collection, entry) -> {
+								if ( !collection.wasInitialized()
+										&& entry.getLoadedKey() != null
+										&& entry.getLoadedPersister() == persister ) {
+									batchFetchQueue.addBatchLoadableCollection( collection, entry );
+								}
+							},
+							true
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The first stack frame outside Hibernate and the JDK, that is, the
+	 * application code which triggered the fetch.
+	 */
+	private static String callSite() {
+		return StackWalker.getInstance().walk(
+				frames -> frames.map( StackWalker.StackFrame::toStackTraceElement )
+						.filter( NPlusOneDetector::isApplicationFrame )
+						.findFirst()
+						.map( StackTraceElement::toString )
+						.orElse( "<unknown>" )
+		);
+	}
+
+	private static boolean isApplicationFrame(StackTraceElement frame) {
+		final String className = frame.getClassName();
+		return !className.startsWith( "org.hibernate." )
+				&& !className.startsWith( "java." )
+				&& !className.startsWith( "jdk." )
+				&& !className.startsWith( "sun." )
+				// the runtime proxies of entities
+				&& !className.contains( "$HibernateProxy$" );
+	}
+}
@@ -8,6 +8,8 @@ package org.hibernate.event.spi;
 
 import java.util.IdentityHashMap;
 
+import org.hibernate.persister.entity.EntityPersister;
+
 /**
  * A {@link PersistEvent} represents a {@linkplain org.hibernate.Session#persist(Object) persist operation}
  * applied to a single entity. A {@code PersistContext} is propagated across all cascaded persist operations,
@@ -19,6 +21,23 @@ public interface PersistContext {
 
 	boolean add(Object entity);
 
+	/**
+	 * Called when the insertion of an entity whose identifier is generated
+	 * by the insert would be executed immediately, because a transaction is
+	 * in progress.
+	 *
+	 * @param entity the entity instance being inserted
+	 * @param persister the persister of the entity
+	 *
+	 * @return {@code true} if the insertion should instead be queued, so that
+	 *         the caller can execute it together with other insertions
+	 *
+	 * @since 7.0
+	 */
+	default boolean delayIdentityInsert(Object entity, EntityPersister persister) {
+		return false;
+	}
+
 	static PersistContext create() {
 		// use extension to avoid creating
 		// a useless wrapper object
@@ -87,6 +87,37 @@ public class GeneratedValuesHelper {
 			return null;
 		}
 
+		final List<GeneratedValues> generatedValues =
+				getGeneratedValuesList( resultSet, persister, timing, wrapperOptions );
+		if ( generatedValues.isEmpty() ) {
+			throw new HibernateException(
+					"The database returned no natively generated values : " + persister.getNavigableRole().getFullPath()
+			);
+		}
+		return generatedValues.get( 0 );
+	}
+
+	/**
+	 * Reads the {@link EntityPersister#getGeneratedProperties(EventType) generated values}
+	 * of every row of the specified {@link ResultSet}, for example, the result set of a
+	 * multi-row {@code insert ... returning} statement.
+	 *
+	 * @param resultSet The result set from which to extract the generated values
+	 * @param persister The entity type which we're reading the generated values for
+	 * @param wrapperOptions The session
+	 *
+	 * @return The generated values, one element per row, in the order of the result set
+	 *
+	 * @throws SQLException Can be thrown while accessing the result set
+	 * @throws HibernateException Indicates a problem reading back a generated value
+	 *
+	 * @since 7.0
+	 */
+	public static List<GeneratedValues> getGeneratedValuesList(
+			ResultSet resultSet,
+			EntityPersister persister,
+			EventType timing,
+			WrapperOptions wrapperOptions) throws SQLException {
 		final GeneratedValuesMutationDelegate delegate = persister.getMutationDelegate(
 				timing == EventType.INSERT ? MutationType.INSERT : MutationType.UPDATE
 		);
@@ -98,27 +129,28 @@ public class GeneratedValuesHelper {
 			generatedProperties.add( resultBuilder.getModelPart() );
 		}
 
-		final GeneratedValuesImpl generatedValues = new GeneratedValuesImpl( generatedProperties );
-		final Object[] results = readGeneratedValues(
+		final List<Object[]> rows = readGeneratedValues(
 				resultSet,
-				persister,
 				mappingProducer,
 				wrapperOptions.getSession()
 		);
+		final List<GeneratedValues> generatedValuesList = new ArrayList<>( rows.size() );
+		for ( Object[] results : rows ) {
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Extracted generated values %s: %s",
+						MessageHelper.infoString( persister ),
+						results
+				);
+			}
 
-		if ( LOG.isDebugEnabled() ) {
-			LOG.debugf(
-					"Extracted generated values %s: %s",
-					MessageHelper.infoString( persister ),
-					results
-			);
-		}
-
-		for ( int i = 0; i < results.length; i++ ) {
-			generatedValues.addGeneratedValue( generatedProperties.get( i ), results[i] );
+			final GeneratedValuesImpl generatedValues = new GeneratedValuesImpl( generatedProperties );
+			for ( int i = 0; i < results.length; i++ ) {
+				generatedValues.addGeneratedValue( generatedProperties.get( i ), results[i] );
+			}
+			generatedValuesList.add( generatedValues );
 		}
-
-		return generatedValues;
+		return generatedValuesList;
 	}
 
 	/**
@@ -132,9 +164,8 @@ public class GeneratedValuesHelper {
 	 *
 	 * @return an object array containing the generated values, order is consistent with the generated model parts list
 	 */
-	private static Object[] readGeneratedValues(
+	private static List<Object[]> readGeneratedValues(
 			ResultSet resultSet,
-			EntityPersister persister,
 			JdbcValuesMappingProducer mappingProducer,
 			SharedSessionContractImplementor session) {
 		final ExecutionContext executionContext = new BaseExecutionContext( session );
@@ -207,7 +238,7 @@ public class GeneratedValuesHelper {
 				jdbcValues
 		);
 
-		final List<Object[]> results = ListResultsConsumer.<Object[]>instance( ListResultsConsumer.UniqueSemantic.NONE )
+		return ListResultsConsumer.<Object[]>instance( ListResultsConsumer.UniqueSemantic.NONE )
 				.consume(
 						jdbcValues,
 						session,
@@ -216,14 +247,6 @@ public class GeneratedValuesHelper {
 						rowProcessingState,
 						rowReader
 				);
-
-		if ( results.isEmpty() ) {
-			throw new HibernateException(
-					"The database returned no natively generated values : " + persister.getNavigableRole().getFullPath()
-			);
-		}
-
-		return results.get( 0 );
 	}
 
 	/**
@@ -6,19 +6,23 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.CacheMode;
 import org.hibernate.LockOptions;
 import org.hibernate.NaturalIdMultiLoadAccess;
+import org.hibernate.cache.spi.NaturalIdMissCache;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.NaturalIdResolutions;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -139,6 +143,64 @@ public class NaturalIdMultiLoadAccessStandard<T> implements NaturalIdMultiLoadAc
 		return multiLoad( ids.toArray( new Object[ 0 ] ) );
 	}
 
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public void preloadResolutions(Object... ids) {
+		final CacheMode sessionCacheMode = session.getCacheMode();
+		final boolean cacheModeChanged = cacheMode != null && cacheMode != sessionCacheMode;
+		if ( cacheModeChanged ) {
+			session.setCacheMode( cacheMode );
+		}
+
+		try {
+			session.autoFlushIfRequired( (Set) CollectionHelper.setOf( entityDescriptor.getQuerySpaces() ) );
+
+			final NaturalIdMapping naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+			final NaturalIdResolutions resolutions = session.getPersistenceContextInternal().getNaturalIdResolutions();
+			final NaturalIdMissCache missCache =
+					session.getFactory().getServiceRegistry().getService( NaturalIdMissCache.class );
+			final boolean useMissCache = missCache != null && missCache.isEnabled();
+
+			final List<Object> unresolved = new ArrayList<>( ids.length );
+			for ( Object id : ids ) {
+				final Object naturalId = naturalIdMapping.normalizeInput( id );
+				if ( resolutions.findCachedIdByNaturalId( naturalId, entityDescriptor ) == null
+						&& !( useMissCache && session.getCacheMode().isGetEnabled()
+								&& missCache.isKnownMiss( naturalId, entityDescriptor, session ) ) ) {
+					unresolved.add( naturalId );
+				}
+			}
+
+			if ( !unresolved.isEmpty() ) {
+				final Object[] naturalIds = unresolved.toArray();
+				final Object[] resolvedIds = entityDescriptor.getNaturalIdLoader().resolveNaturalIdsToIds(
+						naturalIds,
+						batchSize == null ? -1 : batchSize,
+						session
+				);
+				for ( int i = 0; i < naturalIds.length; i++ ) {
+					if ( resolvedIds[i] != null ) {
+						resolutions.cacheResolutionFromLoad( resolvedIds[i], naturalIds[i], entityDescriptor );
+					}
+					else if ( useMissCache && session.getCacheMode().isPutEnabled() ) {
+						missCache.recordMiss( naturalIds[i], entityDescriptor, session );
+					}
+				}
+			}
+		}
+		finally {
+			if ( cacheModeChanged ) {
+				// change it back
+				session.setCacheMode( sessionCacheMode );
+			}
+		}
+	}
+
+	@Override
+	public void preloadResolutions(List<?> ids) {
+		preloadResolutions( ids.toArray( new Object[ 0 ] ) );
+	}
+
 	@Override
 	public boolean isReturnOfDeletedEntitiesEnabled() {
 		return returnOfDeletedEntitiesEnabled;
@@ -36,6 +36,12 @@ public interface SessionCreationOptions {
 
 	boolean shouldAutoClear();
 
+	/**
+	 * @return the number of managed entities which triggers an automatic flush
+	 * and clear of the session, or a non-positive number if disabled
+	 */
+	int getAutoFlushAndClearThreshold();
+
 	Connection getConnection();
 
 	Interceptor getInterceptor();
@@ -1304,6 +1304,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		private FlushMode flushMode;
 		private boolean autoClose;
 		private boolean autoClear;
+		private int autoFlushAndClearThreshold;
 		private Object tenantIdentifier;
 		private TimeZone jdbcTimeZone;
 		private boolean explicitNoInterceptor;
@@ -1377,6 +1378,11 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return autoClear;
 		}
 
+		@Override
+		public int getAutoFlushAndClearThreshold() {
+			return autoFlushAndClearThreshold;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
@@ -1479,6 +1485,12 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return this;
 		}
 
+		@Override
+		public SessionBuilderImpl autoFlushAndClear(int managedEntityThreshold) {
+			this.autoFlushAndClearThreshold = managedEntityThreshold;
+			return this;
+		}
+
 		@Override
 		public SessionBuilderImpl flushMode(FlushMode flushMode) {
 			this.flushMode = flushMode;
@@ -1532,6 +1544,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		private StatementInspector statementInspector;
 		private Connection connection;
 		private Object tenantIdentifier;
+		private boolean readOnly;
 
 		public StatelessSessionBuilderImpl(SessionFactoryImpl sessionFactory) {
 			this.sessionFactory = sessionFactory;
@@ -1545,7 +1558,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 
 		@Override
 		public StatelessSession openStatelessSession() {
-			return new StatelessSessionImpl( sessionFactory, this );
+			return new StatelessSessionImpl( sessionFactory, this, readOnly );
 		}
 
 		@Override
@@ -1572,6 +1585,12 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return this;
 		}
 
+		@Override
+		public StatelessSessionBuilder readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
 		@Override
 		public boolean shouldAutoJoinTransactions() {
 			return true;
@@ -1602,6 +1621,11 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			return false;
 		}
 
+		@Override
+		public int getAutoFlushAndClearThreshold() {
+			return 0;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
@@ -17,7 +17,12 @@ import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
@@ -55,6 +60,7 @@ import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.BatchPrefetcher;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
@@ -161,6 +167,7 @@ import jakarta.persistence.metamodel.Metamodel;
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.newSetFromMap;
 import static java.util.Collections.unmodifiableMap;
 import static org.hibernate.CacheMode.fromJpaModes;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_COPY_TREE;
@@ -231,6 +238,7 @@ public class SessionImpl
 
 	private boolean autoClear;
 	private final boolean autoClose;
+	private final int autoFlushAndClearThreshold;
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
 
@@ -249,6 +257,7 @@ public class SessionImpl
 
 		autoClear = options.shouldAutoClear();
 		autoClose = options.shouldAutoClose();
+		autoFlushAndClearThreshold = options.getAutoFlushAndClearThreshold();
 
 		if ( options instanceof SharedSessionCreationOptions ) {
 			final SharedSessionCreationOptions sharedOptions = (SharedSessionCreationOptions) options;
@@ -616,6 +625,36 @@ public class SessionImpl
 		delayedAfterCompletion();
 	}
 
+	/**
+	 * Called before a top-level persist operation, in order to honor
+	 * {@link org.hibernate.SessionBuilder#autoFlushAndClear(int)}. The check is
+	 * never made after the operation, since clearing the persistence context would
+	 * then detach the very instance the operation just made persistent.
+	 */
+	private void autoFlushAndClearIfNecessary() {
+		if ( autoFlushAndClearThreshold > 0
+				&& persistenceContext.getNumberOfManagedEntities() >= autoFlushAndClearThreshold
+				// only at a safe point, never from within an operation
+				&& persistenceContext.getCascadeLevel() == 0
+				&& persistenceContext.isLoadFinished()
+				&& !persistenceContext.isFlushing()
+				&& isTransactionInProgress() ) {
+			if ( log.isDebugEnabled() ) {
+				log.debugf(
+						"Automatically flushing and clearing session with %s managed entities (threshold %s)",
+						persistenceContext.getNumberOfManagedEntities(),
+						autoFlushAndClearThreshold
+				);
+			}
+			doFlush();
+			internalClear();
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.autoFlushAndClear();
+			}
+		}
+	}
+
 	@Override
 	public void delayedAfterCompletion() {
 		TransactionCoordinator coordinator = getTransactionCoordinator();
@@ -698,14 +737,86 @@ public class SessionImpl
 		firePersist( copiedAlready, new PersistEvent( entityName, object, this ) );
 	}
 
+	@Override
+	public void persistAll(Collection<?> objects) {
+		checkOpen();
+		firePersistAll( objects );
+	}
+
 	private void firePersist(final PersistEvent event) {
+		firePersist( () -> fastSessionServices.eventListenerGroup_PERSIST
+				.fireEventOnEachListener( event, PersistEventListener::onPersist ) );
+	}
+
+	private void firePersistAll(final Collection<?> objects) {
+		firePersist( () -> {
+			// a single PersistContext is shared by all the given entities,
+			// so that an entity reachable from several of them is cascaded
+			// to just once
+			final PersistAllContext createdAlready = new PersistAllContext();
+			for ( List<PersistEvent> events : groupByEntity( objects ).values() ) {
+				for ( PersistEvent event : events ) {
+					fastSessionServices.eventListenerGroup_PERSIST
+							.fireEventOnEachListener( event, createdAlready, PersistEventListener::onPersist );
+				}
+			}
+			if ( !createdAlready.delayedIdentityInserts.isEmpty() ) {
+				// the identifiers must be assigned when persistAll() returns,
+				// so execute the insertions delayed by this call now, each
+				// entity by multi-row inserts, leaving other queued actions
+				actionQueue.executeIdentityInserts( createdAlready.delayedIdentityInserts );
+			}
+		} );
+	}
+
+	/**
+	 * Group the given instances by entity, keeping the order of the instances
+	 * of each entity, so that their insertions are consecutive, and can be
+	 * batched.
+	 */
+	private Map<EntityPersister, List<PersistEvent>> groupByEntity(Collection<?> objects) {
+		final Map<EntityPersister, List<PersistEvent>> eventsByEntity = new LinkedHashMap<>();
+		for ( Object object : objects ) {
+			final PersistEvent event = new PersistEvent( null, object, this );
+			eventsByEntity.computeIfAbsent( getEntityPersister( null, object ), persister -> new ArrayList<>() )
+					.add( event );
+		}
+		return eventsByEntity;
+	}
+
+	/**
+	 * The {@link PersistContext} of {@link #persistAll}, which queues the
+	 * insertions of entities with identity columns, where they can be
+	 * executed by multi-row inserts, instead of executing them one by one.
+	 */
+	private static class PersistAllContext extends IdentityHashMap<Object,Object> implements PersistContext {
+		private final Set<Object> delayedIdentityInserts = newSetFromMap( new IdentityHashMap<>() );
+
+		@Override
+		public boolean add(Object entity) {
+			return put( entity, entity ) == null;
+		}
+
+		@Override
+		public boolean delayIdentityInsert(Object entity, EntityPersister persister) {
+			if ( persister.getInsertCoordinator().supportsInsertMultiple() ) {
+				delayedIdentityInserts.add( entity );
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+	}
+
+	private void firePersist(final Runnable persistOperation) {
 		Throwable originalException = null;
 		try {
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
+			autoFlushAndClearIfNecessary();
 
-			fastSessionServices.eventListenerGroup_PERSIST
-					.fireEventOnEachListener( event, PersistEventListener::onPersist );
+			persistOperation.run();
 		}
 		catch (MappingException e) {
 			originalException = getExceptionConverter().convert( new IllegalArgumentException( e.getMessage(), e ) );
@@ -1904,6 +2015,13 @@ public class SessionImpl
 		return loadQueryInfluencers.getSubselectFetchEnabled();
 	}
 
+	@Override
+	public void prefetch(Collection<?> entities, String... attributePaths) {
+		checkOpen();
+		checkTransactionSynchStatus();
+		BatchPrefetcher.prefetch( entities, attributePaths, this );
+	}
+
 	@Override
 	public void setFetchBatchSize(int batchSize) {
 		loadQueryInfluencers.setBatchSize( batchSize );
@@ -2140,6 +2258,12 @@ public class SessionImpl
 			return this;
 		}
 
+		@Override
+		public SharedSessionBuilderImpl autoFlushAndClear(int managedEntityThreshold) {
+			super.autoFlushAndClear(managedEntityThreshold);
+			return this;
+		}
+
 		@Override
 		public SharedSessionBuilderImpl statementInspector(StatementInspector statementInspector) {
 			super.statementInspector(statementInspector);
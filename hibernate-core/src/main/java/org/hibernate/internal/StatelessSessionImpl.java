@@ -6,13 +6,22 @@
  */
 package org.hibernate.internal;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
@@ -56,14 +65,18 @@ import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.InsertCoordinator;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.descriptor.java.JavaType;
 
 import jakarta.persistence.EntityGraph;
+import jakarta.persistence.TransactionRequiredException;
 import jakarta.transaction.SystemException;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
@@ -95,16 +108,57 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The maximum number of entries in the identity map of a read-only stateless session
+	 */
+	private static final int READ_ONLY_IDENTITY_MAP_SIZE = 1024;
+
+	/**
+	 * The maximum JDBC batch size of the {@code *Multiple()} operations,
+	 * unless a larger batch size is configured
+	 */
+	private static final int MAX_MULTIPLE_BATCH_SIZE = 100;
+
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
+	private final boolean readOnly;
+	private final Map<EntityKey, WeakReference<Object>> readOnlyIdentityMap;
 
 	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
+		this( factory, options, false );
+	}
+
+	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options, boolean readOnly) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
 		temporaryPersistenceContext = new StatefulPersistenceContext( this );
 		influencers = new LoadQueryInfluencers( getFactory() );
 		setUpMultitenancy( factory, influencers );
+		this.readOnly = readOnly;
+		readOnlyIdentityMap = readOnly ? new BoundedIdentityMap() : null;
+		// entities loaded as read-only do not retain a snapshot of their loaded state
+		temporaryPersistenceContext.setDefaultReadOnly( readOnly );
+	}
+
+	/**
+	 * An LRU map of weak references to the entities loaded by a read-only stateless session.
+	 */
+	private static class BoundedIdentityMap extends LinkedHashMap<EntityKey, WeakReference<Object>> {
+		private BoundedIdentityMap() {
+			super( 16, 0.75f, true );
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<EntityKey, WeakReference<Object>> eldest) {
+			return size() > READ_ONLY_IDENTITY_MAP_SIZE;
+		}
+	}
+
+	private void checkNotReadOnly() {
+		if ( readOnly ) {
+			throw new UnsupportedOperationException( "Stateless session is read-only" );
+		}
 	}
 
 	@Override
@@ -112,6 +166,15 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return true;
 	}
 
+	@Override
+	public void checkTransactionNeededForUpdateOperation(String exceptionMessage) {
+		// called before the execution of every mutation query
+		checkNotReadOnly();
+		if ( !isTransactionInProgress() ) {
+			throw new TransactionRequiredException( exceptionMessage );
+		}
+	}
+
 	// inserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -122,14 +185,10 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
+		checkNotReadOnly();
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id;
-		final Object[] state = persister.getValues( entity );
-		if ( persister.isVersioned() ) {
-			if ( seedVersion( entity, state, persister, this ) ) {
-				persister.setValues( entity, state );
-			}
-		}
+		final Object[] state = insertState( entity, persister );
 		final Generator generator = persister.getGenerator();
 		if ( !generator.generatedOnExecution( entity, this ) ) {
 			if ( generator.generatesOnInsert() ) {
@@ -156,6 +215,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			final GeneratedValues generatedValues = persister.getInsertCoordinator().insert( entity, state, this );
 			id = castNonNull( generatedValues ).getGeneratedValue( persister.getIdentifierMapping() );
 		}
+		afterInsert( entity, id, state, persister );
+		return id;
+	}
+
+	private Object[] insertState(Object entity, EntityPersister persister) {
+		final Object[] state = persister.getValues( entity );
+		if ( persister.isVersioned() ) {
+			if ( seedVersion( entity, state, persister, this ) ) {
+				persister.setValues( entity, state );
+			}
+		}
+		return state;
+	}
+
+	private void afterInsert(Object entity, Object id, Object[] state, EntityPersister persister) {
 		persister.setIdentifier( entity, id, this );
 		forEachOwnedCollection( entity, id, persister,
 				(descriptor, collection) -> {
@@ -170,7 +244,6 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.insertEntity( persister.getEntityName() );
 		}
-		return id;
 	}
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -183,6 +256,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
+		checkNotReadOnly();
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id = persister.getIdentifier( entity, this );
 		final Object version = persister.getVersion( entity );
@@ -222,6 +296,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
+		checkNotReadOnly();
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id = persister.getIdentifier( entity, this );
 		final Object[] state = persister.getValues( entity );
@@ -260,6 +335,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
+		checkNotReadOnly();
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id = idToUpsert( entity, persister );
 		final Object[] state = persister.getValues( entity );
@@ -457,6 +533,103 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return collectionSemantics.wrap(collection, descriptor, this);
 	}
 
+	// multiple ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		executeMultiple( entities, list -> {
+			int start = 0;
+			while ( start < list.size() ) {
+				// consecutive instances of an entity with an identifier generated
+				// by the database may be inserted using a multi-row insert
+				final EntityPersister persister = getEntityPersister( null, list.get( start ) );
+				int end = start;
+				while ( end < list.size()
+						&& getEntityPersister( null, list.get( end ) ) == persister
+						&& persister.getGenerator().generatedOnExecution( list.get( end ), this ) ) {
+					end++;
+				}
+				if ( end - start > 1 ) {
+					insertGeneratedOnExecution( persister, list.subList( start, end ) );
+				}
+				else {
+					insert( null, list.get( start ) );
+					end = start + 1;
+				}
+				start = end;
+			}
+		} );
+	}
+
+	private void insertGeneratedOnExecution(EntityPersister persister, List<?> entities) {
+		final List<Object> inserted = new ArrayList<>( entities.size() );
+		final List<Object[]> states = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final Object[] state = insertState( entity, persister );
+			if ( !firePreInsert( entity, null, state, persister ) ) {
+				getInterceptor()
+						.onInsert( entity, null, state, persister.getPropertyNames(), persister.getPropertyTypes() );
+				inserted.add( entity );
+				states.add( state );
+			}
+		}
+
+		final InsertCoordinator insertCoordinator = persister.getInsertCoordinator();
+		final List<GeneratedValues> generatedValues = insertCoordinator.insertMultiple( inserted, states, this );
+		for ( int i = 0; i < inserted.size(); i++ ) {
+			final Object entity = inserted.get( i );
+			final Object[] state = states.get( i );
+			final GeneratedValues entityGeneratedValues = generatedValues == null
+					? insertCoordinator.insert( entity, state, this )
+					: generatedValues.get( i );
+			final Object id = castNonNull( entityGeneratedValues ).getGeneratedValue( persister.getIdentifierMapping() );
+			afterInsert( entity, id, state, persister );
+		}
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		executeMultiple( entities, list -> list.forEach( entity -> update( null, entity ) ) );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		executeMultiple( entities, list -> list.forEach( entity -> delete( null, entity ) ) );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		executeMultiple( entities, list -> list.forEach( entity -> upsert( null, entity ) ) );
+	}
+
+	/**
+	 * Perform the given operation on the entities, with the JDBC batch
+	 * size widened to cover the list, up to {@value #MAX_MULTIPLE_BATCH_SIZE}
+	 * rows, or to the configured batch size if that is larger, and then
+	 * execute whatever remains of the batch, so that every statement has
+	 * been sent to the database when this method returns.
+	 */
+	private void executeMultiple(List<?> entities, Consumer<List<?>> operation) {
+		checkOpen();
+		checkNotReadOnly();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		if ( entities.size() > 1 ) {
+			final int configuredBatchSize = getConfiguredJdbcBatchSize();
+			setJdbcBatchSize( Math.min( entities.size(), Math.max( configuredBatchSize, MAX_MULTIPLE_BATCH_SIZE ) ) );
+		}
+		try {
+			operation.accept( entities );
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -478,14 +651,132 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public Object get(String entityName, Object id, LockMode lockMode) {
 		checkOpen();
 
-		final Object result = getEntityPersister( entityName )
-				.load( id, null, getNullSafeLockMode( lockMode ), this );
+		final EntityPersister persister = getEntityPersister( entityName );
+		final EntityKey entityKey = useReadOnlyIdentityMap( lockMode ) ? generateEntityKey( id, persister ) : null;
+		if ( entityKey != null ) {
+			final Object existing = fromReadOnlyIdentityMap( entityKey );
+			if ( existing != null ) {
+				return existing;
+			}
+		}
+
+		final Object result = persister.load( id, null, getNullSafeLockMode( lockMode ), this );
 		if ( temporaryPersistenceContext.isLoadFinished() ) {
 			temporaryPersistenceContext.clear();
 		}
+		if ( entityKey != null && result != null ) {
+			readOnlyIdentityMap.put( entityKey, new WeakReference<>( result ) );
+		}
 		return result;
 	}
 
+	@Override
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		final EntityPersister persister = getEntityPersister( entityClass.getName() );
+		final JavaType<?> idType = persister.getIdentifierMapping().getJavaType();
+		final boolean useIdentityMap = useReadOnlyIdentityMap( LockMode.NONE );
+		final List<EntityKey> keys = new ArrayList<>( ids.size() );
+		final Map<EntityKey, Object> resultsByKey = new HashMap<>( ids.size() * 2 );
+		final Set<EntityKey> keysToLoad = new LinkedHashSet<>( ids.size() );
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+			final EntityKey entityKey = generateEntityKey( idType.coerce( id, this ), persister );
+			keys.add( entityKey );
+			final Object existing = useIdentityMap ? fromReadOnlyIdentityMap( entityKey ) : null;
+			if ( existing != null ) {
+				resultsByKey.put( entityKey, existing );
+			}
+			else {
+				keysToLoad.add( entityKey );
+			}
+		}
+
+		if ( !keysToLoad.isEmpty() ) {
+			final Object[] idsToLoad = new Object[keysToLoad.size()];
+			int position = 0;
+			for ( EntityKey entityKey : keysToLoad ) {
+				idsToLoad[position++] = entityKey.getIdentifier();
+			}
+			// the multi-id loader splits the ids into batches the database accepts,
+			// and returns the results in the order of the ids
+			final List<?> results = persister.multiLoad( idsToLoad, this, StatelessMultiIdLoadOptions.INSTANCE );
+			if ( temporaryPersistenceContext.isLoadFinished() ) {
+				temporaryPersistenceContext.clear();
+			}
+			position = 0;
+			for ( EntityKey entityKey : keysToLoad ) {
+				final Object result = results.get( position++ );
+				if ( result != null ) {
+					resultsByKey.put( entityKey, result );
+					if ( useIdentityMap ) {
+						readOnlyIdentityMap.put( entityKey, new WeakReference<>( result ) );
+					}
+				}
+			}
+		}
+
+		// return the results in the order of the given ids
+		final List<T> list = new ArrayList<>( keys.size() );
+		for ( EntityKey entityKey : keys ) {
+			list.add( entityClass.cast( resultsByKey.get( entityKey ) ) );
+		}
+		return list;
+	}
+
+	/**
+	 * The options of the multi-id loads of a stateless session, which has
+	 * no persistence context and does not use the second-level cache here.
+	 */
+	private static class StatelessMultiIdLoadOptions implements MultiIdLoadOptions {
+		private static final StatelessMultiIdLoadOptions INSTANCE = new StatelessMultiIdLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
+	private Object fromReadOnlyIdentityMap(EntityKey entityKey) {
+		final WeakReference<Object> reference = readOnlyIdentityMap.get( entityKey );
+		final Object existing = reference == null ? null : reference.get();
+		return existing != null && entityKey.getPersister().isInstance( existing ) ? existing : null;
+	}
+
+	private boolean useReadOnlyIdentityMap(LockMode lockMode) {
+		// an explicit lock or an entity graph requires a trip to the database
+		return readOnly
+			&& getNullSafeLockMode( lockMode ) == LockMode.NONE
+			&& getLoadQueryInfluencers().getEffectiveEntityGraph().getGraph() == null;
+	}
+
 	@Override
 	public <T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id) {
 		return get( graph, graphSemantic, id, LockMode.NONE );
@@ -629,6 +920,15 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			return holder.getEntity();
 		}
 
+		if ( useReadOnlyIdentityMap( LockMode.NONE ) ) {
+			// an instance already obtained by a read-only session is used
+			// instead of a proxy, or of another query
+			final Object existing = fromReadOnlyIdentityMap( entityKey );
+			if ( existing != null ) {
+				return existing;
+			}
+		}
+
 		if ( !eager ) {
 			// caller did not request forceful eager loading, see if we can create
 			// some form of proxy
@@ -711,6 +1011,14 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 			if ( initializer.isUninitialized() ) {
 				final String entityName = initializer.getEntityName();
 				final Object id = initializer.getIdentifier();
+				if ( useReadOnlyIdentityMap( LockMode.NONE ) ) {
+					final Object existing =
+							fromReadOnlyIdentityMap( generateEntityKey( id, getEntityPersister( entityName ) ) );
+					if ( existing != null ) {
+						initializer.setImplementation( existing );
+						return;
+					}
+				}
 				initializer.setSession( this );
 				persistenceContext.beforeLoad();
 				try {
@@ -887,11 +1195,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 	public boolean isDefaultReadOnly() {
-		return false;
+		return readOnly;
 	}
 
 	public void setDefaultReadOnly(boolean readOnly) throws HibernateException {
-		if ( readOnly ) {
+		if ( readOnly != this.readOnly ) {
 			throw new UnsupportedOperationException();
 		}
 	}
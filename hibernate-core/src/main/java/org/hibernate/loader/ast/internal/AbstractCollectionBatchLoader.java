@@ -128,8 +128,15 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 
 	}
 
+	/**
+	 * The number of keys to batch fetch when loading a collection
+	 */
+	int resolveBatchSize(SharedSessionContractImplementor session) {
+		return getDomainBatchSize();
+	}
+
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = resolveBatchSize( session );
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
 				length
@@ -50,6 +50,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.graph.*;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
 import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
@@ -328,6 +329,134 @@ public abstract class AbstractNaturalIdLoader<T> implements NaturalIdLoader<T> {
 		);
 	}
 
+	@Override
+	public Object[] resolveNaturalIdsToIds(
+			Object[] naturalIdValues,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final Object[] ids = new Object[naturalIdValues.length];
+		if ( naturalIdValues.length == 0 ) {
+			return ids;
+		}
+
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final int maxBatchSize = batchSize > 0
+				? batchSize
+				: session.getJdbcServices().getJdbcEnvironment().getDialect().getMultiKeyLoadSizingStrategy()
+						.determineOptimalBatchLoadSize(
+								naturalIdMapping().getJdbcTypeCount(),
+								naturalIdValues.length,
+								sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+						);
+		final int size = Math.min( maxBatchSize, naturalIdValues.length );
+
+		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder();
+		final SelectStatement sqlSelect = LoaderSelectBuilder.createSelect(
+				entityDescriptor(),
+				List.of( entityDescriptor().getIdentifierMapping(), naturalIdMapping() ),
+				naturalIdMapping(),
+				null,
+				size,
+				session.getLoadQueryInfluencers(),
+				LockOptions.NONE,
+				jdbcParametersBuilder::add,
+				sessionFactory
+		);
+		final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
+		final JdbcOperationQuerySelect jdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlSelect )
+						.translate( null, QueryOptions.NONE );
+
+		final JdbcParameterBindingsImpl jdbcParamBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		for ( int start = 0; start < naturalIdValues.length; start += size ) {
+			final int end = Math.min( start + size, naturalIdValues.length );
+			int offset = 0;
+			for ( int i = start; i < end; i++ ) {
+				offset += jdbcParamBindings.registerParametersForEachJdbcValue(
+						naturalIdValues[i],
+						offset,
+						naturalIdMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			while ( offset < jdbcParameters.size() ) {
+				// pad the remaining parameters with null
+				offset += jdbcParamBindings.registerParametersForEachJdbcValue(
+						null,
+						offset,
+						naturalIdMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+
+			resolveBatch( naturalIdValues, start, end, ids, jdbcSelect, jdbcParamBindings, session );
+			jdbcParamBindings.clear();
+		}
+		return ids;
+	}
+
+	private void resolveBatch(
+			Object[] naturalIdValues,
+			int start,
+			int end,
+			Object[] ids,
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParamBindings,
+			SharedSessionContractImplementor session) {
+		final long startToken = session.getFactory().getStatistics().isStatisticsEnabled() ? System.nanoTime() : -1;
+
+		final List<Object[]> rows = session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParamBindings,
+				new NoCallbackExecutionContext( session ),
+				RowTransformerArrayImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.NONE,
+				end - start
+		);
+
+		if ( startToken > 0 ) {
+			session.getFactory().getStatistics().naturalIdQueryExecuted(
+					entityDescriptor().getEntityPersister().getRootEntityName(),
+					System.nanoTime() - startToken
+			);
+		}
+
+		final int[] hashCodes = new int[end - start];
+		for ( int i = start; i < end; i++ ) {
+			hashCodes[i - start] = naturalIdMapping().calculateHashCode( naturalIdValues[i] );
+		}
+
+		boolean unmatchedRows = false;
+		for ( Object[] row : rows ) {
+			final Object naturalId = row[1];
+			final int hashCode = naturalIdMapping().calculateHashCode( naturalId );
+			boolean matched = false;
+			for ( int i = start; i < end; i++ ) {
+				if ( hashCodes[i - start] == hashCode
+						&& naturalIdMapping().areEqual( naturalIdValues[i], naturalId, session ) ) {
+					ids[i] = row[0];
+					matched = true;
+				}
+			}
+			unmatchedRows = unmatchedRows || !matched;
+		}
+
+		if ( unmatchedRows ) {
+			// the database considers some values equal which are not equal in Java (for
+			// example, because of a case-insensitive collation), so resolve the values we
+			// could not match one at a time, rather than reporting them as missing
+			for ( int i = start; i < end; i++ ) {
+				if ( ids[i] == null ) {
+					ids[i] = resolveNaturalIdToId( naturalIdValues[i], session );
+				}
+			}
+		}
+	}
+
 	@Override
 	public Object resolveIdToNaturalId(Object id, SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * {@link BatchLoaderFactory} whose loaders adapt their batch size to the
+ * workload, by fetching all the keys pending in the
+ * {@link org.hibernate.engine.spi.BatchFetchQueue} each time a batch fetch
+ * is triggered, up to a maximum batch size.
+ * <p>
+ * Only the loaders passing the keys as a single SQL {@code ARRAY} parameter
+ * are adaptive, since the SQL they execute does not depend on the batch size.
+ * Loaders using an {@code IN} predicate keep the static batch size.
+ *
+ * @see AdaptiveBatchSize
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+ */
+public class AdaptiveBatchLoaderFactory extends StandardBatchLoaderFactory {
+	private final int maximumBatchSize;
+
+	public AdaptiveBatchLoaderFactory(
+			int maximumBatchSize,
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry) {
+		super( configurationValues, registry );
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
+	public int getMaximumBatchSize() {
+		return maximumBatchSize;
+	}
+
+	@Override
+	protected <T> EntityBatchLoader<T> createEntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		return new EntityBatchLoaderArrayParam<>(
+				domainBatchSize,
+				new AdaptiveBatchSize( domainBatchSize, maximumBatchSize ),
+				entityDescriptor,
+				loadQueryInfluencers
+		);
+	}
+
+	@Override
+	protected CollectionBatchLoader createCollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor factory) {
+		return new CollectionBatchLoaderArrayParam(
+				domainBatchSize,
+				new AdaptiveBatchSize( domainBatchSize, maximumBatchSize ),
+				influencers,
+				attributeMapping,
+				factory
+		);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+/**
+ * The batch size used to batch fetch one entity or collection role, resolved
+ * from the number of keys pending in the {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * each time a batch fetch is triggered.
+ * <p>
+ * Each batch covers all the pending keys, up to the maximum batch size. This
+ * is only used by loaders which pass the keys as a single SQL {@code ARRAY}
+ * parameter, whose SQL does not depend on the batch size, so that sizing every
+ * batch exactly costs nothing, and there is no reason to smooth the sizes.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+ */
+public class AdaptiveBatchSize {
+	private final int maximumBatchSize;
+	private volatile int batchSize;
+
+	/**
+	 * @param initialBatchSize The batch size to report before the first batch fetch, usually the static batch size
+	 * @param maximumBatchSize The largest batch size which may be used
+	 */
+	public AdaptiveBatchSize(int initialBatchSize, int maximumBatchSize) {
+		this.maximumBatchSize = Math.max( maximumBatchSize, 2 );
+		this.batchSize = clamp( initialBatchSize );
+	}
+
+	/**
+	 * The largest batch size which may be used
+	 */
+	public int getMaximumBatchSize() {
+		return maximumBatchSize;
+	}
+
+	/**
+	 * The most recently used batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Return the batch size to use for a batch fetch, given the number of keys
+	 * pending when it is triggered.
+	 *
+	 * @param pendingKeyCount The number of keys pending, including the key being loaded
+	 */
+	public int resolveBatchSize(int pendingKeyCount) {
+		final int resolved = clamp( pendingKeyCount );
+		batchSize = resolved;
+		return resolved;
+	}
+
+	private int clamp(int batchSize) {
+		return Math.max( 2, Math.min( batchSize, maximumBatchSize ) );
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize(" + getBatchSize() + " [" + maximumBatchSize + "])";
+	}
+}
@@ -9,11 +9,15 @@ package org.hibernate.loader.ast.internal;
 import java.util.Map;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.cfg.FetchSettings;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
 /**
- * Initiator for {@link StandardBatchLoaderFactory}
+ * Initiator for {@link StandardBatchLoaderFactory}, or {@link AdaptiveBatchLoaderFactory}
+ * when {@value FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE} is specified
  *
  * @author Steve Ebersole
  */
@@ -25,7 +29,10 @@ public class BatchLoaderFactoryInitiator implements StandardServiceInitiator<Bat
 
 	@Override
 	public BatchLoaderFactory initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
-		return new StandardBatchLoaderFactory( configurationValues, registry );
+		final int maximumBatchSize = getInt( FetchSettings.ADAPTIVE_BATCH_FETCH_SIZE, configurationValues, 0 );
+		return maximumBatchSize > 0
+				? new AdaptiveBatchLoaderFactory( maximumBatchSize, configurationValues, registry )
+				: new StandardBatchLoaderFactory( configurationValues, registry );
 	}
 
 	@Override
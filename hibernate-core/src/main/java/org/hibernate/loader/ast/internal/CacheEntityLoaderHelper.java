@@ -259,6 +259,81 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Attempts to load several entities from the second-level cache, using
+	 * a single {@linkplain org.hibernate.cache.spi.access.CachedDomainDataAccess#getAll
+	 * bulk get} against the region.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The entities from the second-level cache, in the order of the
+	 * given keys, with {@code null} for each entity which was not cached
+	 */
+	public Object[] loadFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+		final Object[] entities = new Object[entityKeys.length];
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache || entityKeys.length == 0 ) {
+			// we can't use cache here
+			return entities;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[entityKeys.length];
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					entityKeys[i].getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+
+		final Object[] cachedEntries = CacheHelper.fromSharedCache( source, cacheKeys, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			final Object ce = cachedEntries[i];
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			if ( ce != null ) {
+				final EntityKey entityKey = entityKeys[i];
+				final Object entity = processCachedEntry( null, persister, ce, source, entityKey );
+				if ( entity != null ) {
+					//PostLoad is needed for EJB3
+					final PostLoadEvent postLoadEvent = new PostLoadEvent( source )
+							.setEntity( entity )
+							.setId( entityKey.getIdentifier() )
+							.setPersister( persister );
+					factory.getFastSessionServices().firePostLoadEvent( postLoadEvent );
+				}
+				entities[i] = entity;
+			}
+		}
+		return entities;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
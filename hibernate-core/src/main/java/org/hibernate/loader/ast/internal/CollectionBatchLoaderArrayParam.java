@@ -36,6 +36,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
@@ -50,6 +51,7 @@ import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LO
 public class CollectionBatchLoaderArrayParam
 		extends AbstractCollectionBatchLoader
 		implements SqlArrayMultiKeyLoader {
+	private final AdaptiveBatchSize adaptiveBatchSize;
 	private final Class<?> keyDomainType;
 	private final JdbcMapping arrayJdbcMapping;
 	private final JdbcParameter jdbcParameter;
@@ -61,7 +63,20 @@ public class CollectionBatchLoaderArrayParam
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	/**
+	 * @param adaptiveBatchSize The adaptive batch size to use instead of {@code domainBatchSize}, if any
+	 */
+	public CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -131,7 +146,7 @@ public class CollectionBatchLoaderArrayParam
 			);
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = resolveBatchSize( session );
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				jdbcParameter.getExpressionType()
 						.getSingleJdbcMapping()
@@ -213,6 +228,22 @@ public class CollectionBatchLoaderArrayParam
 		);
 	}
 
+	@Override
+	int resolveBatchSize(SharedSessionContractImplementor session) {
+		if ( adaptiveBatchSize == null ) {
+			return getDomainBatchSize();
+		}
+		final int batchSize = adaptiveBatchSize.resolveBatchSize(
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.countBatchLoadableCollections( getLoadable() )
+		);
+		final StatisticsImplementor statistics = getSessionFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.adaptiveCollectionBatchFetchSize( getLoadable().getNavigableRole().getFullPath(), batchSize );
+		}
+		return batchSize;
+	}
+
 	@Override
 	void finishInitializingKeys(Object[] keys, SharedSessionContractImplementor session) {
 		for ( Object initializedKey : keys ) {
@@ -225,7 +256,7 @@ public class CollectionBatchLoaderArrayParam
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
+			final int length = resolveBatchSize( session );
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.collectBatchLoadableCollectionKeys(
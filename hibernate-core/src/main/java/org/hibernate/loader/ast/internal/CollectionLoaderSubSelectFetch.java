@@ -9,6 +9,7 @@ package org.hibernate.loader.ast.internal;
 import java.util.Iterator;
 import java.util.List;
 
+import org.hibernate.Hibernate;
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -24,8 +25,11 @@ import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.NullnessUtil;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -142,6 +146,10 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 				ListResultsConsumer.UniqueSemantic.NONE
 		);
 
+		if ( attributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
+			registerManagedElements( collection, subSelectFetchedCollections, subSelectFetchableKeysHandler, session );
+		}
+
 		if ( subSelectFetchedCollections != null && ! subSelectFetchedCollections.isEmpty() ) {
 			subSelectFetchedCollections.forEach(
 					c -> {
@@ -166,4 +174,46 @@ public class CollectionLoaderSubSelectFetch implements CollectionLoader {
 		return collection;
 	}
 
+	/**
+	 * The elements which were already associated with the session were not loaded by the
+	 * subselect, and so were not registered for a nested subselect fetch of their own
+	 * collections. Register those which are not registered for any other subselect fetch,
+	 * so that initializing their collections also initializes those of the elements which
+	 * were loaded, and vice versa, instead of falling back to loading them one by one.
+	 */
+	private void registerManagedElements(
+			PersistentCollection<?> collection,
+			List<PersistentCollection<?>> subSelectFetchedCollections,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+			SharedSessionContractImplementor session) {
+		final NavigablePath elementPath = sqlAst.getDomainResultDescriptors().get( 0 ).getNavigablePath()
+				.append( CollectionPart.Nature.ELEMENT.getName() );
+		registerManagedElements( collection, elementPath, subSelectFetchableKeysHandler, session );
+		if ( subSelectFetchedCollections != null ) {
+			for ( PersistentCollection<?> subSelectFetchedCollection : subSelectFetchedCollections ) {
+				registerManagedElements( subSelectFetchedCollection, elementPath, subSelectFetchableKeysHandler, session );
+			}
+		}
+	}
+
+	private void registerManagedElements(
+			PersistentCollection<?> collection,
+			NavigablePath elementPath,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+			SharedSessionContractImplementor session) {
+		if ( collection.wasInitialized() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Iterator<?> entries = collection.entries( attributeMapping.getCollectionDescriptor() );
+			while ( entries.hasNext() ) {
+				final Object element = collection.getElement( entries.next() );
+				if ( element != null && Hibernate.isInitialized( element ) ) {
+					final EntityEntry entry = persistenceContext.getEntry( persistenceContext.unproxy( element ) );
+					if ( entry != null ) {
+						subSelectFetchableKeysHandler.addManagedKey( entry.getEntityKey(), elementPath );
+					}
+				}
+			}
+		}
+	}
+
 }
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Locale;
 
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -25,6 +26,7 @@ import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.internal.BatchFetchQueueHelper.removeBatchLoadableEntityKey;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
@@ -41,6 +43,7 @@ public class EntityBatchLoaderArrayParam<T>
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final BasicEntityIdentifierMapping identifierMapping;
@@ -65,9 +68,24 @@ public class EntityBatchLoaderArrayParam<T>
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
+		this( domainBatchSize, null, entityDescriptor, loadQueryInfluencers );
+	}
+
+	/**
+	 * Instantiates the loader
+	 *
+	 * @param domainBatchSize The number of domain model parts (up to)
+	 * @param adaptiveBatchSize The adaptive batch size to use instead of {@code domainBatchSize}, if any
+	 */
+	public EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -112,15 +130,29 @@ public class EntityBatchLoaderArrayParam<T>
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
-		session.getPersistenceContextInternal().getBatchFetchQueue()
-				.collectBatchLoadableEntityIds(
-						domainBatchSize,
-						(index, value) -> idsToLoad[index] = value,
-						pkValue,
-						getLoadable()
-				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int batchSize = resolveBatchSize( batchFetchQueue );
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
+		batchFetchQueue.collectBatchLoadableEntityIds(
+				batchSize,
+				(index, value) -> idsToLoad[index] = value,
+				pkValue,
+				getLoadable()
+		);
+		return trimIdBatch( batchSize, idsToLoad );
+	}
+
+	private int resolveBatchSize(BatchFetchQueue batchFetchQueue) {
+		if ( adaptiveBatchSize == null ) {
+			return domainBatchSize;
+		}
+		final int batchSize =
+				adaptiveBatchSize.resolveBatchSize( batchFetchQueue.countBatchLoadableEntityKeys( getLoadable() ) );
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.adaptiveEntityBatchFetchSize( getLoadable().getEntityName(), batchSize );
+		}
+		return batchSize;
 	}
 
 	@Override
@@ -169,7 +201,7 @@ public class EntityBatchLoaderArrayParam<T>
 				Locale.ROOT,
 				"EntityBatchLoaderArrayParam(%s [%s])",
 				getLoadable().getEntityName(),
-				domainBatchSize
+				adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize
 		);
 	}
 }
@@ -28,6 +28,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
 /**
@@ -146,7 +147,8 @@ public class EntityBatchLoaderInPredicate<T>
 
 		chunker.processChunks(
 				idsToInitialize,
-				sqlBatchSize,
+				// the id being loaded, and the other ids queued for batch fetching
+				countIds( idsToInitialize ) + 1,
 				(jdbcParameterBindings, session1) -> {
 					// Create a RegistrationHandler for handling any subselect fetches we encounter handling this chunk
 					final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
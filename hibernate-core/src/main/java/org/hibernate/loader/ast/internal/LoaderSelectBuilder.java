@@ -477,7 +477,8 @@ public class LoaderSelectBuilder {
 					return new StandardEntityGraphTraversalStateImpl(
 							graphSemantic,
 							rootGraphImplementor,
-							sessionFactory.getJpaMetamodel()
+							sessionFactory.getJpaMetamodel(),
+							sessionFactory.getSessionFactoryOptions().getEntityGraphCollectionBatchSize()
 					);
 				}
 			}
@@ -18,8 +18,8 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
-import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -70,7 +70,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	}
 
 	@Override
-	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performOrderedMultiLoad - %s",
@@ -86,6 +86,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
+		List<EntityKey> keysToLoadFromCache = null;
+		List<Integer> keysToLoadFromCacheResultIndexes = null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -103,7 +105,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers(session)
 				);
 
@@ -127,19 +129,23 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							getLoadable().getEntityPersister(),
-							entityKey
-					);
-				}
-
 				if ( managedEntity != null ) {
 					result.add( i, managedEntity );
 					continue;
 				}
+
+				if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					// look for it in the SessionFactory, together with the others, below
+					if ( keysToLoadFromCache == null ) {
+						keysToLoadFromCache = new ArrayList<>();
+						keysToLoadFromCacheResultIndexes = new ArrayList<>();
+					}
+					// hold its place in the result with the EntityKey, we'll come back to it later
+					result.add( i, entityKey );
+					keysToLoadFromCache.add( entityKey );
+					keysToLoadFromCacheResultIndexes.add( i );
+					continue;
+				}
 			}
 
 			// if we did not hit any of the continues above, then we need to batch
@@ -154,8 +160,33 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			idsToLoadFromDatabaseResultIndexes.add( i );
 		}
 
+		if ( keysToLoadFromCache != null ) {
+			// look for all the others in the SessionFactory at once
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session.asEventSource(),
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					keysToLoadFromCache.toArray( new EntityKey[0] )
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				final Integer resultIndex = keysToLoadFromCacheResultIndexes.get( i );
+				if ( cachedEntities[i] != null ) {
+					result.set( resultIndex, cachedEntities[i] );
+				}
+				else {
+					// not cached, so we need to batch load the entity state
+					if ( idsToLoadFromDatabase == null ) {
+						idsToLoadFromDatabase = new ArrayList<>();
+						idsToLoadFromDatabaseResultIndexes = new ArrayList<>();
+					}
+					idsToLoadFromDatabase.add( keysToLoadFromCache.get( i ).getIdentifier() );
+					idsToLoadFromDatabaseResultIndexes.add( resultIndex );
+				}
+			}
+		}
+
 		if ( idsToLoadFromDatabase == null ) {
-			// all the given ids were already associated with the Session
+			// all the given ids were already associated with the Session, or cached
 			//noinspection unchecked
 			return (List<E>) result;
 		}
@@ -228,7 +259,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	protected <K> List<E> performUnorderedMultiLoad(
 			K[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performUnorderedMultiLoad - %s",
@@ -307,7 +338,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			ResolutionConsumer<R> resolutionConsumer,
 			@NonNull MultiIdLoadOptions loadOptions,
 			@NonNull LockOptions lockOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( !loadOptions.isSessionCheckingEnabled()
 				&& !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// we'll load all of them from the database
@@ -318,6 +349,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
+		List<EntityKey> keysToLoadFromCache = null;
+		List<Integer> keysToLoadFromCachePositions = null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -334,7 +367,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					id,
 					getLoadable().getJavaType().getJavaTypeClass().getName(),
 					lockOptions,
-					session,
+					session.asEventSource(),
 					LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
 			);
 
@@ -358,20 +391,21 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				}
 			}
 
-			if ( resolvedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-						loadEvent,
-						getLoadable().getEntityPersister(),
-						entityKey
-				);
-			}
-
 			if ( resolvedEntity != null ) {
 				foundAnyResolvedEntities = true;
 
 				//noinspection unchecked
 				resolutionConsumer.consume( i, entityKey, (R) resolvedEntity);
 			}
+			else if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				// look for it in the SessionFactory, together with the others, below
+				if ( keysToLoadFromCache == null ) {
+					keysToLoadFromCache = new ArrayList<>();
+					keysToLoadFromCachePositions = new ArrayList<>();
+				}
+				keysToLoadFromCache.add( entityKey );
+				keysToLoadFromCachePositions.add( i );
+			}
 			else {
 				if ( nonResolvedIds == null ) {
 					nonResolvedIds = new ArrayList<>();
@@ -381,6 +415,32 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			}
 		}
 
+		if ( keysToLoadFromCache != null ) {
+			// look for all the others in the SessionFactory at once
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session.asEventSource(),
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					keysToLoadFromCache.toArray( new EntityKey[0] )
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				final EntityKey entityKey = keysToLoadFromCache.get( i );
+				if ( cachedEntities[i] != null ) {
+					foundAnyResolvedEntities = true;
+
+					//noinspection unchecked
+					resolutionConsumer.consume( keysToLoadFromCachePositions.get( i ), entityKey, (R) cachedEntities[i] );
+				}
+				else {
+					if ( nonResolvedIds == null ) {
+						nonResolvedIds = new ArrayList<>();
+					}
+					//noinspection unchecked
+					nonResolvedIds.add( (K) entityKey.getIdentifier() );
+				}
+			}
+		}
+
 		if ( foundAnyResolvedEntities ) {
 			if ( isEmpty( nonResolvedIds ) ) {
 				// all the given ids were already associated with the Session
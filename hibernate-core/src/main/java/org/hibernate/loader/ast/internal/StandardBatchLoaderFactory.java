@@ -43,7 +43,7 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
+			return createEntityBatchLoaderArrayParam( domainBatchSize, entityDescriptor, loadQueryInfluencers );
 		}
 		else {
 			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
@@ -59,10 +59,25 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			return createCollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
 		}
 		else {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
 		}
 	}
+
+	protected <T> EntityBatchLoader<T> createEntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
+	}
+
+	protected CollectionBatchLoader createCollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor factory) {
+		return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+	}
 }
@@ -8,7 +8,7 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
-import org.hibernate.event.spi.EventSource;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * Loader subtype for loading multiple entities by multiple identifier values.
@@ -16,6 +16,10 @@ import org.hibernate.event.spi.EventSource;
 public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	/**
 	 * Load multiple entities by id.  The exact result depends on the passed options.
+	 * <p>
+	 * If the session is not an {@link org.hibernate.event.spi.EventSource}, for
+	 * example, if it is a stateless session, the options must disable checking
+	 * the session and the second-level cache.
 	 */
-	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+	<K> List<T> load(K[] ids, MultiIdLoadOptions options, SharedSessionContractImplementor session);
 }
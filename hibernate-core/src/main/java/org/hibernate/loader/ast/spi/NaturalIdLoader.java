@@ -35,6 +35,29 @@ public interface NaturalIdLoader<T> extends EntityLoader, MultiKeyLoader {
 	 */
 	Object resolveNaturalIdToId(Object naturalIdValue, SharedSessionContractImplementor session);
 
+	/**
+	 * Resolve the ids from many natural-id values, in batches of the given size
+	 *
+	 * @param naturalIdValues The normalized natural-id values
+	 * @param batchSize The maximum number of natural-id values per query, or
+	 * 		a non-positive value to let the dialect decide
+	 *
+	 * @return The ids, at the positions of the natural-id values they were
+	 * 		resolved from, or {@code null} where no row was found
+	 *
+	 * @since 7.0
+	 */
+	default Object[] resolveNaturalIdsToIds(
+			Object[] naturalIdValues,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final Object[] ids = new Object[naturalIdValues.length];
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			ids[i] = resolveNaturalIdToId( naturalIdValues[i], session );
+		}
+		return ids;
+	}
+
 	/**
 	 * Resolve the natural-id value(s) from an id
 	 */
@@ -14,6 +14,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.IdentifierLoadAccess;
 import org.hibernate.LockOptions;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.cache.spi.NaturalIdMissCache;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -204,10 +205,17 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 						entityPersister().getEntityName(),
 						normalizedNaturalIdValue
 				);
+				if ( isKnownMiss( normalizedNaturalIdValue, session ) ) {
+					return null;
+				}
 				final Object idFromDatabase =
 						entityPersister().getNaturalIdLoader()
 								.resolveNaturalIdToId( normalizedNaturalIdValue, session );
-				return idFromDatabase == null ? null : (T) getIdentifierLoadAccess().getReference( idFromDatabase );
+				if ( idFromDatabase == null ) {
+					recordMiss( normalizedNaturalIdValue, session );
+					return null;
+				}
+				return (T) getIdentifierLoadAccess().getReference( idFromDatabase );
 			}
 		}
 	}
@@ -228,6 +236,9 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 		if ( cachedResolution == INVALID_NATURAL_ID_REFERENCE ) {
 			return null;
 		}
+		else if ( cachedResolution == null && isKnownMiss( normalizedNaturalIdValue, session ) ) {
+			return null;
+		}
 		else {
 			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 			final HashSet<String> fetchProfiles =
@@ -238,7 +249,12 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 				final T loaded = cachedResolution != null
 						? (T) getIdentifierLoadAccess().load(cachedResolution)
 						: (T) entityPersister().getNaturalIdLoader().load( normalizedNaturalIdValue, this, session );
-				if ( loaded != null ) {
+				if ( loaded == null ) {
+					if ( cachedResolution == null ) {
+						recordMiss( normalizedNaturalIdValue, session );
+					}
+				}
+				else {
 					final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( loaded );
 					final EntityEntry entry = lazyInitializer != null
 							? persistenceContext.getEntry( lazyInitializer.getImplementation() )
@@ -258,6 +274,31 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 		}
 	}
 
+	/**
+	 * Whether the given natural-id value was recently found not to exist
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_MISS_CACHE_TTL
+	 */
+	private boolean isKnownMiss(Object normalizedNaturalIdValue, SessionImplementor session) {
+		final NaturalIdMissCache missCache = naturalIdMissCache( session );
+		return missCache != null
+			&& session.getCacheMode().isGetEnabled()
+			&& missCache.isKnownMiss( normalizedNaturalIdValue, entityPersister(), session );
+	}
+
+	private void recordMiss(Object normalizedNaturalIdValue, SessionImplementor session) {
+		final NaturalIdMissCache missCache = naturalIdMissCache( session );
+		if ( missCache != null && session.getCacheMode().isPutEnabled() ) {
+			missCache.recordMiss( normalizedNaturalIdValue, entityPersister(), session );
+		}
+	}
+
+	private static NaturalIdMissCache naturalIdMissCache(SessionImplementor session) {
+		final NaturalIdMissCache missCache =
+				session.getFactory().getServiceRegistry().getService( NaturalIdMissCache.class );
+		return missCache != null && missCache.isEnabled() ? missCache : null;
+	}
+
 	protected final IdentifierLoadAccess<?> getIdentifierLoadAccess() {
 		final IdentifierLoadAccessImpl<?> loadAccess = new IdentifierLoadAccessImpl<>( context, entityPersister() );
 		if ( lockOptions != null ) {
@@ -16,6 +16,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.hibernate.AssertionFailure;
@@ -242,6 +243,8 @@ public abstract class AbstractCollectionPersister
 	private final Comparator<?> comparator;
 
 	private CollectionLoader collectionLoader;
+	// batch loaders for sessions which enabled batch fetching of this collection
+	private final Map<Integer, CollectionLoader> sessionBatchLoaders = new ConcurrentHashMap<>();
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -741,9 +744,20 @@ public abstract class AbstractCollectionPersister
 			}
 		}
 
-		return attributeMapping.isAffectedByInfluencers( influencers, true )
-				? createCollectionLoader( influencers )
-				: getCollectionLoader();
+		if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+			return createCollectionLoader( influencers );
+		}
+		else if ( influencers.isBatchFetchingEnabled( getRole() ) ) {
+			return sessionBatchLoaders.computeIfAbsent(
+					influencers.effectiveBatchSize( this ),
+					batchSize -> factory.getServiceRegistry()
+							.requireService( BatchLoaderFactory.class )
+							.createCollectionBatchLoader( batchSize, new LoadQueryInfluencers( factory ), attributeMapping, factory )
+			);
+		}
+		else {
+			return getCollectionLoader();
+		}
 	}
 
 	private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContractImplementor session) {
@@ -343,6 +343,8 @@ public abstract class AbstractEntityPersister
 	private final String sqlAliasStem;
 
 	private SingleIdEntityLoader<?> singleIdLoader;
+	// batch loaders for sessions which enabled batch fetching of this entity
+	private final Map<Integer, SingleIdEntityLoader<?>> sessionBatchLoaders = new ConcurrentHashMap<>();
 	private MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
@@ -3504,9 +3506,20 @@ public abstract class AbstractEntityPersister
 		else {
 			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 			// no subselect fetching for entities for now
-			return isAffectedByInfluencers( influencers, true )
-					? buildSingleIdEntityLoader( influencers )
-					: getSingleIdLoader();
+			if ( isAffectedByInfluencers( influencers, true ) ) {
+				return buildSingleIdEntityLoader( influencers );
+			}
+			else if ( influencers.isBatchFetchingEnabled( getRootEntityName() ) ) {
+				return sessionBatchLoaders.computeIfAbsent(
+						influencers.effectiveBatchSize( this ),
+						batchSize -> factory.getServiceRegistry()
+								.requireService( BatchLoaderFactory.class )
+								.createEntityBatchLoader( batchSize, this, new LoadQueryInfluencers( factory ) )
+				);
+			}
+			else {
+				return getSingleIdLoader();
+			}
 		}
 	}
 
@@ -3568,7 +3581,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	@Override
-	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
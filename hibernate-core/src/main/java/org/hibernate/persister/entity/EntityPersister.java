@@ -613,7 +613,7 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 *
 	 * @return The loaded, matching entities
 	 */
-	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
+	List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions);
 
 	@Override
 	default Object loadByUniqueKey(String propertyName, Object uniqueKey, SharedSessionContractImplementor session) {
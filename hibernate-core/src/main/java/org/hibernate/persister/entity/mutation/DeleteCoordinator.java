@@ -6,6 +6,9 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -19,4 +22,25 @@ public interface DeleteCoordinator extends MutationCoordinator {
 	 * Delete a persistent instance.
 	 */
 	void delete(Object entity, Object id, Object version, SharedSessionContractImplementor session);
+
+	/**
+	 * Delete multiple persistent instances, identified by the given identifiers,
+	 * using a single {@code delete ... where id in (...)} statement, if this is
+	 * supported for the entity.
+	 *
+	 * @return {@code true} if the instances were deleted, or {@code false} if the
+	 *         instances must be deleted {@linkplain #delete one at a time}, in
+	 *         which case nothing was deleted
+	 *
+	 * @throws org.hibernate.StaleStateException if the number of deleted rows
+	 *         does not match the number of identifiers
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_BULK_DELETES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean deleteMultiple(List<?> ids, SharedSessionContractImplementor session) {
+		return false;
+	}
 }
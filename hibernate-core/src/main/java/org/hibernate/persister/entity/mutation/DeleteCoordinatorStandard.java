@@ -6,15 +6,49 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
 import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryOptionsAdapter;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
+import org.hibernate.sql.ast.tree.predicate.InListPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.ast.ColumnValueBindingList;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.RestrictedTableMutationBuilder;
@@ -29,8 +63,201 @@ import org.hibernate.sql.model.ast.builder.TableDeleteBuilderStandard;
  */
 public class DeleteCoordinatorStandard extends AbstractDeleteCoordinator {
 
+	private final EntityTableMapping bulkDeleteTable;
+	private final JdbcMapping bulkDeleteArrayJdbcMapping;
+	private final QueryOptions bulkDeleteQueryOptions;
+
 	public DeleteCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
+		bulkDeleteTable = resolveBulkDeleteTable();
+		bulkDeleteArrayJdbcMapping = bulkDeleteTable == null ? null : resolveBulkDeleteArrayJdbcMapping();
+		final String bulkDeleteComment = "bulk delete for " + entityPersister.getRolePath();
+		bulkDeleteQueryOptions = new QueryOptionsAdapter() {
+			@Override
+			public String getComment() {
+				return bulkDeleteComment;
+			}
+		};
+	}
+
+	private EntityTableMapping resolveBulkDeleteTable() {
+		final EntityPersister persister = entityPersister();
+		final MutationOperationGroup staticOperationGroup = getStaticMutationOperationGroup();
+		if ( !factory().getSessionFactoryOptions().isJdbcBatchBulkDeletes()
+				|| persister.isVersioned()
+				|| persister.optimisticLockStyle().isAllOrDirty()
+				|| persister.hasPartitionedSelectionMapping()
+				|| staticOperationGroup.getNumberOfOperations() != 1 ) {
+			return null;
+		}
+
+		final MutationOperation operation = staticOperationGroup.getSingleOperation();
+		final EntityTableMapping tableMapping = (EntityTableMapping) operation.getTableDetails();
+		if ( !( operation instanceof PreparableMutationOperation preparableOperation )
+				|| preparableOperation.isCallable()
+				|| tableMapping.getDeleteCustomSql() != null
+				|| tableMapping.getKeyMapping().getColumnCount() != 1
+				|| !"?".equals( tableMapping.getKeyMapping().getKeyColumn( 0 ).getWriteExpression() )
+				|| !( tableMapping.getDeleteExpectation() instanceof Expectation.RowCount
+						|| tableMapping.getDeleteExpectation() instanceof Expectation.None ) ) {
+			return null;
+		}
+		return tableMapping;
+	}
+
+	/**
+	 * The type of a single array parameter holding all the ids, when the
+	 * Dialect prefers arrays to {@code in} lists, as for multi-id loading.
+	 */
+	private JdbcMapping resolveBulkDeleteArrayJdbcMapping() {
+		if ( MultiKeyLoadHelper.supportsSqlArrayType( dialect() )
+				&& entityPersister().getIdentifierMapping() instanceof BasicEntityIdentifierMapping identifierMapping ) {
+			final Class<?> arrayClass =
+					Array.newInstance( identifierMapping.getJavaType().getJavaTypeClass(), 0 ).getClass();
+			return MultiKeyLoadHelper.resolveArrayJdbcMapping(
+					factory().getTypeConfiguration().getBasicTypeRegistry().getRegisteredType( arrayClass ),
+					identifierMapping.getJdbcMapping(),
+					arrayClass,
+					factory()
+			);
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean deleteMultiple(List<?> ids, SharedSessionContractImplementor session) {
+		if ( bulkDeleteTable == null ) {
+			return false;
+		}
+
+		// execute any pending batch first, to preserve the order of statements
+		session.getJdbcCoordinator().executeBatch();
+		final int chunkSize = bulkDeleteArrayJdbcMapping == null ? bulkDeleteChunkSize( ids.size() ) : ids.size();
+		for ( int start = 0; start < ids.size(); start += chunkSize ) {
+			executeBulkDelete( ids.subList( start, Math.min( start + chunkSize, ids.size() ) ), session );
+		}
+		return true;
+	}
+
+	/**
+	 * The number of ids in each bulk delete, limited by the number of
+	 * parameters and of {@code in} list elements allowed by the database.
+	 */
+	private int bulkDeleteChunkSize(int idCount) {
+		int limit = idCount;
+		if ( dialect().getInExpressionCountLimit() > 0 ) {
+			limit = Math.min( limit, dialect().getInExpressionCountLimit() );
+		}
+		if ( dialect().getParameterCountLimit() > 0 ) {
+			limit = Math.min( limit, dialect().getParameterCountLimit() );
+		}
+		return limit;
+	}
+
+	/**
+	 * The number of parameters of the {@code in} list for the given number
+	 * of ids, padded to a power of two, so that a few distinct statements
+	 * serve all the numbers of ids, and may be cached by the driver.
+	 */
+	private int paddedParameterCount(int idCount) {
+		return Math.min( MathHelper.ceilingPowerOfTwo( idCount ), bulkDeleteChunkSize( Integer.MAX_VALUE ) );
+	}
+
+	private void executeBulkDelete(List<?> ids, SharedSessionContractImplementor session) {
+		final NamedTableReference tableReference =
+				new NamedTableReference( bulkDeleteTable.getTableName(), DeleteStatement.DEFAULT_ALIAS );
+		final EntityTableMapping.KeyColumn keyColumn = bulkDeleteTable.getKeyMapping().getKeyColumn( 0 );
+		final ColumnReference keyColumnReference = new ColumnReference(
+				tableReference,
+				keyColumn.getColumnName(),
+				false,
+				null,
+				keyColumn.getJdbcMapping()
+		);
+
+		final Predicate restriction;
+		final JdbcParameterBindings jdbcParameterBindings;
+		if ( bulkDeleteArrayJdbcMapping != null ) {
+			final JdbcParameter arrayParameter = new JdbcParameterImpl( bulkDeleteArrayJdbcMapping );
+			restriction = new InArrayPredicate( keyColumnReference, arrayParameter );
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			jdbcParameterBindings.addBinding(
+					arrayParameter,
+					new JdbcParameterBindingImpl( bulkDeleteArrayJdbcMapping, toArray( ids ) )
+			);
+		}
+		else {
+			final int parameterCount = Math.max( paddedParameterCount( ids.size() ), ids.size() );
+			final EntityIdentifierMapping identifierMapping = entityPersister().getIdentifierMapping();
+			final List<Expression> parameters = new ArrayList<>( parameterCount );
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( parameterCount );
+			for ( int i = 0; i < parameterCount; i++ ) {
+				final JdbcParameter parameter = new JdbcParameterImpl( keyColumn.getJdbcMapping() );
+				parameters.add( parameter );
+				// the padding repeats the last id
+				final Object id = ids.get( Math.min( i, ids.size() - 1 ) );
+				jdbcParameterBindings.addBinding(
+						parameter,
+						new JdbcParameterBindingImpl(
+								keyColumn.getJdbcMapping(),
+								identifierMapping.disassemble( id, session )
+						)
+				);
+			}
+			restriction = new InListPredicate( keyColumnReference, parameters );
+		}
+
+		final JdbcOperationQueryMutation jdbcOperation =
+				factory().getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildMutationTranslator( factory(), new DeleteStatement( tableReference, restriction ) )
+						.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+		final String sql = dialect().addSqlHintOrComment(
+				jdbcOperation.getSqlString(),
+				bulkDeleteQueryOptions,
+				factory().getSessionFactoryOptions().isCommentsEnabled()
+		);
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			final ExecutionContext executionContext = new BaseExecutionContext( session );
+			int position = 1;
+			for ( JdbcParameterBinder parameterBinder : jdbcOperation.getParameterBinders() ) {
+				parameterBinder.bindParameterValue( statement, position++, jdbcParameterBindings, executionContext );
+			}
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( rowCount != ids.size()
+					&& bulkDeleteTable.getDeleteExpectation() instanceof Expectation.RowCount ) {
+				// like a batch, a bulk delete cannot tell which instance is stale
+				throw new StaleStateException(
+						"Bulk delete of entity '" + entityPersister().getEntityName()
+								+ "' returned unexpected row count: " + rowCount
+								+ "; expected: " + ids.size() + "; statement executed: " + sql
+				);
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to execute bulk delete for entity: " + entityPersister().getEntityName(),
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private Object[] toArray(List<?> ids) {
+		final Object[] array = (Object[]) Array.newInstance(
+				entityPersister().getIdentifierMapping().getJavaType().getJavaTypeClass(),
+				ids.size()
+		);
+		return ids.toArray( array );
 	}
 
 	@Override
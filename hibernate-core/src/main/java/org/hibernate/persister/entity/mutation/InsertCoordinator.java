@@ -6,6 +6,9 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -36,4 +39,37 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Can multiple entity instances be persisted by
+	 * {@link #insertMultiple(List, List, SharedSessionContractImplementor)}?
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean supportsInsertMultiple() {
+		return false;
+	}
+
+	/**
+	 * Persist multiple entity instances with identifiers generated by the
+	 * database, using a multi-row {@code insert ... returning} statement,
+	 * if this is supported for the entity.
+	 *
+	 * @return The {@linkplain GeneratedValues generated values} of each instance,
+	 *         in the order of the given instances, or {@code null} if the instances
+	 *         must be persisted {@linkplain #insert(Object, Object[], SharedSessionContractImplementor)
+	 *         one at a time}, in which case nothing was inserted.
+	 *
+	 * @see #supportsInsertMultiple()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable List<GeneratedValues> insertMultiple(
+			List<?> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		return null;
+	}
 }
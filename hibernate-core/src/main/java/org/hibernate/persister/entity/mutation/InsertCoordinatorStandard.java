@@ -6,17 +6,27 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -24,6 +34,8 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
+import org.hibernate.id.insert.InsertReturningDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
@@ -32,17 +44,20 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getGeneratedValuesList;
 
 /**
  * Coordinates the insertion of an entity.
@@ -55,6 +70,7 @@ import static org.hibernate.generator.EventType.INSERT;
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	private final MultiRowInsertBatch.Shape multiRowInsertReturningShape;
 
 	public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -75,6 +91,28 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 		else {
 			staticInsertGroup = generateStaticOperationGroup();
 		}
+
+		multiRowInsertReturningShape = resolveMultiRowInsertReturningShape();
+	}
+
+	private MultiRowInsertBatch.Shape resolveMultiRowInsertReturningShape() {
+		if ( !factory().getSessionFactoryOptions().isJdbcBatchMultiRowInserts()
+				|| staticInsertGroup == null
+				|| staticInsertGroup.getNumberOfOperations() != 1
+				|| !( entityPersister().getInsertDelegate() instanceof InsertReturningDelegate
+						|| entityPersister().getInsertDelegate() instanceof GetGeneratedKeysDelegate )
+				|| !dialect().supportsValuesListForInsert()
+				// the generated values are assigned to the instances by position
+				|| !dialect().supportsOrderedValuesListInsertReturning() ) {
+			return null;
+		}
+		final MutationOperation operation = staticInsertGroup.getSingleOperation();
+		if ( !( operation instanceof PreparableMutationOperation preparableOperation )
+				|| preparableOperation.isCallable()
+				|| operation.getTableDetails().getInsertDetails().getCustomSql() != null ) {
+			return null;
+		}
+		return MultiRowInsertBatch.Shape.resolve( preparableOperation, dialect() );
 	}
 
 	@Override
@@ -101,6 +139,131 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 		return coordinateInsert( id, values, entity, session );
 	}
 
+	@Override
+	public boolean supportsInsertMultiple() {
+		return multiRowInsertReturningShape != null;
+	}
+
+	@Override
+	public @Nullable List<GeneratedValues> insertMultiple(
+			List<?> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final MultiRowInsertBatch.Shape shape = multiRowInsertReturningShape;
+		if ( shape == null ) {
+			return null;
+		}
+
+		final PreparableMutationOperation operation = (PreparableMutationOperation) staticInsertGroup.getSingleOperation();
+		// execute any pending batch first, to preserve the order of statements
+		session.getJdbcCoordinator().executeBatch();
+		final GeneratedValues[] generatedValues = new GeneratedValues[entities.size()];
+		final List<Integer> rowPositions = new ArrayList<>( entities.size() );
+		final List<Binding[]> rows = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			final Object[] entityValues = values.get( i );
+			if ( preInsertInMemoryValueGeneration( entityValues, entity, session ) ) {
+				// the insert statement depends on the state of this instance
+				generatedValues[i] = doDynamicInserts( null, entityValues, entity, session, false );
+			}
+			else {
+				rowPositions.add( i );
+				rows.add( bindRow( operation, entityValues, session ) );
+			}
+		}
+
+		for ( int start = 0; start < rows.size(); start += shape.maxRowsPerStatement() ) {
+			final int end = Math.min( start + shape.maxRowsPerStatement(), rows.size() );
+			final List<GeneratedValues> rowValues = executeMultiRowInsert( shape, rows.subList( start, end ), session );
+			if ( rowValues.size() != end - start ) {
+				throw new HibernateException(
+						"Multi-row insert returned " + rowValues.size() + " rows of generated values for "
+								+ ( end - start ) + " inserted rows : " + entityPersister().getEntityName()
+				);
+			}
+			for ( int i = start; i < end; i++ ) {
+				generatedValues[rowPositions.get( i )] = rowValues.get( i - start );
+			}
+		}
+		return Arrays.asList( generatedValues );
+	}
+
+	private Binding[] bindRow(
+			PreparableMutationOperation operation,
+			Object[] values,
+			SharedSessionContractImplementor session) {
+		final JdbcValueBindingsImpl jdbcValueBindings = new JdbcValueBindingsImpl(
+				MutationType.INSERT,
+				entityPersister(),
+				new JdbcValueBindingsImpl.JdbcValueDescriptorAccess() {
+					@Override
+					public String resolvePhysicalTableName(String tableName) {
+						return operation.getTableDetails().getTableName();
+					}
+
+					@Override
+					public JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage) {
+						return operation.findValueDescriptor( columnName, usage );
+					}
+				},
+				session
+		);
+		final TableInclusionChecker tableInclusionChecker =
+				getTableInclusionChecker( new InsertValuesAnalysis( entityPersister(), values ) );
+		decomposeForInsert(
+				jdbcValueBindings,
+				null,
+				values,
+				staticInsertGroup,
+				entityPersister().getPropertyInsertability(),
+				tableInclusionChecker,
+				session
+		);
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( operation.getTableDetails().getTableName() );
+		return bindingGroup == null ? new Binding[0] : bindingGroup.getBindings().toArray( new Binding[0] );
+	}
+
+	private List<GeneratedValues> executeMultiRowInsert(
+			MultiRowInsertBatch.Shape shape,
+			List<Binding[]> rows,
+			SharedSessionContractImplementor session) {
+		final String sql = shape.render( rows.size(), session.getFactory() );
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final PreparedStatement statement = entityPersister().getInsertDelegate().prepareStatement( sql, session );
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+		try {
+			session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+			for ( int i = 0; i < rows.size(); i++ ) {
+				final int offset = i * shape.parametersPerRow();
+				for ( Binding binding : rows.get( i ) ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition() + offset, session );
+				}
+			}
+			final ResultSet resultSet;
+			if ( entityPersister().getInsertDelegate() instanceof GetGeneratedKeysDelegate ) {
+				jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+				resultSet = statement.getGeneratedKeys();
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( resultSet, statement );
+			}
+			else {
+				resultSet = jdbcCoordinator.getResultSetReturn().execute( statement, sql );
+			}
+			return getGeneratedValuesList( resultSet, entityPersister(), INSERT, session );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to execute multi-row insert for entity: " + entityPersister().getEntityName(),
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
 	/**
 	 * Perform the insert(s).
 	 *
@@ -217,7 +380,25 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
+
+	protected void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
 
 		for ( int position = 0; position < mutationGroup.getNumberOfOperations(); position++ ) {
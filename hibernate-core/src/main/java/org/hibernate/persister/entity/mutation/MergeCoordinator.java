@@ -6,6 +6,8 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.model.MutationOperation;
@@ -18,9 +20,19 @@ import org.hibernate.sql.model.ast.builder.TableMergeBuilder;
  * @author Gavin King
  */
 public class MergeCoordinator extends UpdateCoordinatorStandard {
+	private final BatchKey batchKey;
 
 	public MergeCoordinator(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super(entityPersister, factory);
+		// merges must never end up in the same batch as updates
+		this.batchKey = super.getBatchKey() == null
+				? null
+				: new BasicBatchKey( entityPersister.getEntityName() + "#MERGE" );
+	}
+
+	@Override
+	protected BatchKey getBatchKey() {
+		return batchKey;
 	}
 
 	@Override
@@ -7,8 +7,10 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
@@ -34,6 +36,7 @@ import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
@@ -74,12 +77,19 @@ import static org.hibernate.internal.util.collections.ArrayHelper.trim;
 public class UpdateCoordinatorStandard extends AbstractMutationCoordinator implements UpdateCoordinator {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( UpdateCoordinatorStandard.class );
 
+	private static final int DYNAMIC_UPDATE_GROUP_CACHE_SIZE = 128;
+
 	private final MutationOperationGroup staticUpdateGroup;
 	private final BatchKey batchKey;
 
 	private final MutationOperationGroup versionUpdateGroup;
 	private final BatchKey versionUpdateBatchkey;
 
+	// dynamic update operations, keyed by the "shape" of the update
+	private final BoundedConcurrentHashMap<BitSet, DynamicUpdateGroup> dynamicUpdateGroups =
+			new BoundedConcurrentHashMap<>( DYNAMIC_UPDATE_GROUP_CACHE_SIZE, 20, BoundedConcurrentHashMap.Eviction.LRU );
+	private final AtomicInteger dynamicUpdateGroupCount = new AtomicInteger();
+
 	public UpdateCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -927,19 +937,40 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			InclusionChecker dirtinessChecker,
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
-		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
-				entity,
-				id,
-				rowId,
-				oldValues,
-				valuesAnalysis,
-				session
-		);
+		// Create the JDBC operation descriptors, or reuse the ones
+		// created earlier for an update of the same shape
+		final MutationOperationGroup dynamicUpdateGroup;
+		final BatchKeyAccess batchKeyAccess;
+		final BitSet shape = dynamicUpdateShape( entity, rowId, oldValues, valuesAnalysis, session );
+		if ( shape == null ) {
+			dynamicUpdateGroup = generateDynamicUpdateGroup(
+					entity,
+					id,
+					rowId,
+					oldValues,
+					valuesAnalysis,
+					session
+			);
+			batchKeyAccess = resolveBatchKeyAccess( true, session );
+		}
+		else {
+			final DynamicUpdateGroup cachedGroup = resolveDynamicUpdateGroup(
+					shape,
+					entity,
+					id,
+					rowId,
+					oldValues,
+					valuesAnalysis,
+					session
+			);
+			dynamicUpdateGroup = cachedGroup.operationGroup();
+			batchKeyAccess = resolveDynamicUpdateBatchKeyAccess( cachedGroup.batchKey(), session );
+		}
 
 		// and then execute them
 
-		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup, true );
+		final MutationExecutor mutationExecutor = mutationExecutorService
+				.createExecutor( batchKeyAccess, dynamicUpdateGroup, session );
 
 		decomposeForUpdate(
 				id,
@@ -986,6 +1017,123 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		}
 	}
 
+	private DynamicUpdateGroup resolveDynamicUpdateGroup(
+			BitSet shape,
+			Object entity,
+			Object id,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		final DynamicUpdateGroup cachedGroup = dynamicUpdateGroups.get( shape );
+		if ( cachedGroup != null ) {
+			return cachedGroup;
+		}
+
+		final MutationOperationGroup operationGroup = generateDynamicUpdateGroup(
+				entity,
+				id,
+				rowId,
+				oldValues,
+				valuesAnalysis,
+				session
+		);
+		// every shape gets its own batch key, which is never reused, even
+		// if the shape is evicted, so that only identical statements end
+		// up in the same batch
+		final BatchKey shapeBatchKey = getBatchKey() == null
+				? null
+				: new BasicBatchKey( getBatchKey().toLoggableString() + "#" + dynamicUpdateGroupCount.incrementAndGet() );
+		final DynamicUpdateGroup newGroup = new DynamicUpdateGroup( operationGroup, shapeBatchKey );
+		final DynamicUpdateGroup existingGroup = dynamicUpdateGroups.putIfAbsent( shape, newGroup );
+		if ( existingGroup != null ) {
+			return existingGroup;
+		}
+
+		if ( session.getFactory().getStatistics().isStatisticsEnabled() ) {
+			session.getFactory().getStatistics().dynamicUpdateShape( entityPersister().getEntityName() );
+		}
+		return newGroup;
+	}
+
+	/**
+	 * Determine the "shape" of a dynamic update, that is, everything which
+	 * influences the SQL generated by {@link #generateDynamicUpdateGroup}.
+	 *
+	 * @return the shape, or {@code null} if the generated SQL depends on
+	 * the old values and should not be cached
+	 */
+	private BitSet dynamicUpdateShape(
+			Object entity,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		final OptimisticLockStyle optimisticLockStyle = entityPersister().optimisticLockStyle();
+		if ( oldValues != null && optimisticLockStyle.isAllOrDirty() ) {
+			// the restrictions depend on which old values are null
+			return null;
+		}
+
+		final EntityVersionMapping versionMapping = entityPersister().getVersionMapping();
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		final List<AttributeAnalysis> attributeAnalyses = valuesAnalysis.getAttributeAnalyses();
+		final int attributeCount = attributeAnalyses.size();
+		final BitSet shape = new BitSet();
+		for ( int i = 0; i < attributeCount; i++ ) {
+			final AttributeAnalysis analysis = attributeAnalyses.get( i );
+			final int position = i * 4;
+			if ( analysis.includeInSet() ) {
+				shape.set( position );
+				if ( analysis.getDirtynessStatus().isDirty() ) {
+					shape.set( position + 1 );
+				}
+				final Generator generator = attributeMappings.get( i ).getGenerator();
+				if ( isValueGenerated( generator ) && generator.generatedOnExecution( entity, session ) ) {
+					shape.set( position + 2 );
+				}
+			}
+			if ( analysis.includeInLocking() ) {
+				shape.set( position + 3 );
+			}
+		}
+
+		int position = attributeCount * 4;
+		if ( rowId != null ) {
+			shape.set( position );
+		}
+		position++;
+		if ( oldValues != null ) {
+			shape.set( position );
+			if ( versionMapping != null
+					&& oldValues[versionMapping.getVersionAttribute().getStateArrayPosition()] == null ) {
+				shape.set( position + 1 );
+			}
+		}
+		position += 2;
+
+		final int tablePosition = position;
+		entityPersister().forEachMutableTable( (tableMapping) -> {
+			if ( valuesAnalysis.tablesNeedingUpdate.contains( tableMapping ) ) {
+				shape.set( tablePosition + tableMapping.getRelativePosition() );
+			}
+		} );
+		return shape;
+	}
+
+	private BatchKeyAccess resolveDynamicUpdateBatchKeyAccess(BatchKey shapeBatchKey, SharedSessionContractImplementor session) {
+		if ( shapeBatchKey != null
+				&& session.getTransactionCoordinator() != null
+				&& session.getTransactionCoordinator().isTransactionActive() ) {
+			return () -> shapeBatchKey;
+		}
+
+		return NoBatchKeyAccess.INSTANCE;
+	}
+
+	private record DynamicUpdateGroup(MutationOperationGroup operationGroup, BatchKey batchKey) {
+	}
+
 	private MutationExecutor executor(SharedSessionContractImplementor session, MutationOperationGroup group, boolean dynamicUpdate) {
 		return mutationExecutorService
 				.createExecutor( resolveBatchKeyAccess( dynamicUpdate, session ), group, session );
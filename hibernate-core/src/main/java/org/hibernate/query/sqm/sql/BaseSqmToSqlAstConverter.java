@@ -582,7 +582,9 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			if ( appliedGraph != null && appliedGraph.getSemantic() != null && appliedGraph.getGraph() != null ) {
 				this.entityGraphTraversalState = new StandardEntityGraphTraversalStateImpl(
 						appliedGraph.getSemantic(), appliedGraph.getGraph(),
-						creationContext.getSessionFactory().getJpaMetamodel()
+						creationContext.getSessionFactory().getJpaMetamodel(),
+						creationContext.getSessionFactory().getSessionFactoryOptions()
+								.getEntityGraphCollectionBatchSize()
 				);
 			}
 			else {
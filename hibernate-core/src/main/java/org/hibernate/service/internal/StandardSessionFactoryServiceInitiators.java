@@ -9,6 +9,7 @@ package org.hibernate.service.internal;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.cache.internal.NaturalIdMissCacheInitiator;
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
@@ -28,6 +29,7 @@ public final class StandardSessionFactoryServiceInitiators {
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
+		serviceInitiators.add( NaturalIdMissCacheInitiator.INSTANCE );
 
 		return serviceInitiators;
 	}
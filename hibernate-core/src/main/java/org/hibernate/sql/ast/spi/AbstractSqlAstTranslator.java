@@ -8834,20 +8834,26 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		getCurrentClauseStack().push( Clause.VALUES );
 		try {
-			sqlBuffer.append( ") values (" );
+			sqlBuffer.append( ") values " );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
+			// a multi-row insert repeats the tuple, with new parameters for each row
+			for ( int row = 0; row < tableInsert.getNumberOfRows(); row++ ) {
+				if ( row > 0 ) {
 					sqlBuffer.append( ',' );
 				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+				sqlBuffer.append( '(' );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+				sqlBuffer.append( ')' );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
 		}
-
-		sqlBuffer.append( ")" );
 	}
 
 	/**
@@ -9,6 +9,7 @@ package org.hibernate.sql.exec.internal;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
@@ -16,6 +17,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.sql.exec.SqlExecLogger;
@@ -28,6 +31,7 @@ import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
+import org.hibernate.sql.results.internal.StandardEntityGraphTraversalStateImpl;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
@@ -47,6 +51,8 @@ import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Standard JdbcSelectExecutor implementation used by Hibernate,
  * through {@link JdbcSelectExecutorStandardImpl#INSTANCE}
@@ -99,7 +105,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			persistenceContext.setDefaultReadOnly( readOnly );
 		}
 		try {
-			return doExecuteQuery(
+			final Supplier<T> execution = () -> doExecuteQuery(
 					jdbcSelect,
 					jdbcParameterBindings,
 					executionContext,
@@ -109,6 +115,21 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					statementCreator,
 					resultsConsumer
 			);
+			final RootGraphImplementor<?> entityGraph = collectionBatchedEntityGraph( executionContext );
+			if ( entityGraph == null ) {
+				return execution.get();
+			}
+			else {
+				// The collections of the entity graph are fetched by separate queries.
+				// Temporarily batch fetch them, for this execution only.
+				final SharedSessionContractImplementor session = executionContext.getSession();
+				final SessionFactoryImplementor factory = session.getFactory();
+				return session.getLoadQueryInfluencers().fromCollectionBatchFetching(
+						StandardEntityGraphTraversalStateImpl.collectionRoles( entityGraph, factory.getMappingMetamodel() ),
+						factory.getSessionFactoryOptions().getEntityGraphCollectionBatchSize(),
+						execution
+				);
+			}
 		}
 		finally {
 			if ( readOnly != null ) {
@@ -117,6 +138,25 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		}
 	}
 
+	/**
+	 * The entity graph applied to the query, or to the load, if its collections
+	 * are fetched by separate queries.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ENTITY_GRAPH_COLLECTION_BATCH_SIZE
+	 */
+	private static @Nullable RootGraphImplementor<?> collectionBatchedEntityGraph(ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		if ( session.getFactory().getSessionFactoryOptions().getEntityGraphCollectionBatchSize() > 1 ) {
+			final AppliedGraph appliedGraph = executionContext.getQueryOptions().getAppliedGraph();
+			return appliedGraph != null && appliedGraph.getGraph() != null
+					? appliedGraph.getGraph()
+					: session.getLoadQueryInfluencers().getEffectiveEntityGraph().getGraph();
+		}
+		else {
+			return null;
+		}
+	}
+
 	private <T, R> T doExecuteQuery(
 			JdbcOperationQuerySelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
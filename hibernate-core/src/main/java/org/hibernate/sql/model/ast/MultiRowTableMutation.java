@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.sql.model.ast;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.model.MutationOperation;
+
+/**
+ * A table mutation which may also be rendered as a single statement mutating
+ * several rows, that is, as an {@code insert} with several {@code values}
+ * tuples, or as a {@code merge} whose source is the {@code union all} of the
+ * rows.  The parameters of each row follow the parameters of the preceding row.
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface MultiRowTableMutation<O extends MutationOperation> extends TableMutation<O> {
+	/**
+	 * The number of rows mutated by the statement, {@code 1} unless this
+	 * mutation was created by {@link #withNumberOfRows(int)}.
+	 */
+	int getNumberOfRows();
+
+	/**
+	 * A copy of this mutation which mutates the given number of rows.
+	 */
+	MultiRowTableMutation<O> withNumberOfRows(int numberOfRows);
+}
@@ -23,6 +23,7 @@ import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.ast.AbstractRestrictedTableMutation;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.ast.MultiRowTableMutation;
 import org.hibernate.sql.model.ast.MutatingTableReference;
 import org.hibernate.sql.model.ast.RestrictedTableMutation;
 import org.hibernate.sql.model.ast.TableUpdate;
@@ -38,8 +39,9 @@ import static org.hibernate.sql.model.ast.AbstractTableUpdate.collectParameters;
  */
 public class OptionalTableUpdate
 		extends AbstractRestrictedTableMutation<MutationOperation>
-		implements RestrictedTableMutation<MutationOperation> {
+		implements RestrictedTableMutation<MutationOperation>, MultiRowTableMutation<MutationOperation> {
 	private final List<ColumnValueBinding> valueBindings;
+	private final int numberOfRows;
 
 	public OptionalTableUpdate(
 			MutatingTableReference mutatingTable,
@@ -73,6 +75,20 @@ public class OptionalTableUpdate
 				collectParameters( valueBindings, keyRestrictionBindings, optLockRestrictionBindings )
 		);
 		this.valueBindings = valueBindings;
+		this.numberOfRows = 1;
+	}
+
+	private OptionalTableUpdate(OptionalTableUpdate original, int numberOfRows) {
+		super(
+				original.getMutatingTable(),
+				original.getMutationTarget(),
+				original.getMutationComment(),
+				original.getKeyBindings(),
+				original.getOptimisticLockBindings(),
+				original.getParameters()
+		);
+		this.valueBindings = original.valueBindings;
+		this.numberOfRows = numberOfRows;
 	}
 
 	@Override
@@ -122,6 +138,16 @@ public class OptionalTableUpdate
 		forEachThing( valueBindings, consumer );
 	}
 
+	@Override
+	public int getNumberOfRows() {
+		return numberOfRows;
+	}
+
+	@Override
+	public OptionalTableUpdate withNumberOfRows(int numberOfRows) {
+		return new OptionalTableUpdate( this, numberOfRows );
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		walker.visitOptionalTableUpdate( this );
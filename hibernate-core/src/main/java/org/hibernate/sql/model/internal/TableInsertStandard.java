@@ -11,17 +11,22 @@ import java.util.function.BiConsumer;
 
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.ast.MultiRowTableMutation;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
  */
-public class TableInsertStandard extends AbstractTableInsert {
+public class TableInsertStandard extends AbstractTableInsert implements MultiRowTableMutation<JdbcInsertMutation> {
 	private final List<ColumnReference> returningColumns;
+	private final int numberOfRows;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -31,6 +36,19 @@ public class TableInsertStandard extends AbstractTableInsert {
 			List<ColumnValueParameter> parameters) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.numberOfRows = 1;
+	}
+
+	private TableInsertStandard(TableInsertStandard original, int numberOfRows) {
+		super(
+				original.getMutatingTable(),
+				original.getMutationTarget(),
+				original.getMutationComment(),
+				original.getParameters(),
+				original.getValueBindings()
+		);
+		this.returningColumns = original.returningColumns;
+		this.numberOfRows = numberOfRows;
 	}
 
 	@Override
@@ -53,8 +71,34 @@ public class TableInsertStandard extends AbstractTableInsert {
 		return false;
 	}
 
+	@Override
+	public int getNumberOfRows() {
+		return numberOfRows;
+	}
+
+	@Override
+	public TableInsertStandard withNumberOfRows(int numberOfRows) {
+		return new TableInsertStandard( this, numberOfRows );
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
 	}
+
+	@Override
+	protected JdbcInsertMutation createMutationOperation(
+			TableMapping tableDetails,
+			String sql,
+			List<JdbcParameterBinder> effectiveBinders) {
+		return new JdbcInsertMutation(
+				tableDetails,
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				effectiveBinders,
+				this
+		);
+	}
 }
@@ -13,6 +13,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.MultiRowTableMutation;
 
 /**
  * Descriptor for a table insert originating from a flush
@@ -20,6 +21,8 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final MultiRowTableMutation<JdbcInsertMutation> multiRowMutation;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -27,7 +30,30 @@ public class JdbcInsertMutation extends AbstractJdbcMutation {
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, null );
+	}
+
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			MultiRowTableMutation<JdbcInsertMutation> multiRowMutation) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.multiRowMutation = multiRowMutation;
+	}
+
+	/**
+	 * The table insert this operation was translated from, which may be
+	 * rendered as an insert of several rows, or {@code null} if the insert
+	 * cannot be rendered for several rows.
+	 *
+	 * @since 7.0
+	 */
+	public MultiRowTableMutation<JdbcInsertMutation> getMultiRowMutation() {
+		return multiRowMutation;
 	}
 
 	@Override
@@ -10,9 +10,11 @@ import java.util.List;
 
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.MultiRowTableMutation;
 
 /**
  * JdbcMutation implementation for MERGE handling
@@ -20,12 +22,35 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class MergeOperation extends AbstractJdbcMutation {
+	private final MultiRowTableMutation<MutationOperation> multiRowMutation;
+
 	public MergeOperation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
 			String sql,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, parameterBinders, null );
+	}
+
+	public MergeOperation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			MultiRowTableMutation<MutationOperation> multiRowMutation) {
 		super( tableDetails, mutationTarget, sql, false, Expectations.NONE, parameterBinders );
+		this.multiRowMutation = multiRowMutation;
+	}
+
+	/**
+	 * The upsert this operation was translated from, which may be rendered
+	 * as a merge of several rows, or {@code null} if the merge cannot be
+	 * rendered for several rows.
+	 *
+	 * @since 7.0
+	 */
+	public MultiRowTableMutation<MutationOperation> getMultiRowMutation() {
+		return multiRowMutation;
 	}
 
 	@Override
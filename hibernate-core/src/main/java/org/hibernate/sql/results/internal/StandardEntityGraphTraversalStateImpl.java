@@ -6,8 +6,10 @@
  */
 package org.hibernate.sql.results.internal;
 
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.graph.GraphSemantic;
@@ -15,15 +17,23 @@ import org.hibernate.graph.spi.AttributeNodeImplementor;
 import org.hibernate.graph.spi.GraphImplementor;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.CollectionPart;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.sql.results.graph.EntityGraphTraversalState;
 import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.graph.Fetchable;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Nathan Xu
  */
@@ -31,17 +41,32 @@ public class StandardEntityGraphTraversalStateImpl implements EntityGraphTravers
 
 	private final GraphSemantic graphSemantic;
 	private final JpaMetamodel metamodel;
+	private final int collectionBatchSize;
 	private GraphImplementor<?> currentGraphContext;
 
 	public StandardEntityGraphTraversalStateImpl(
 			GraphSemantic graphSemantic,
 			RootGraphImplementor<?> rootGraphImplementor,
 			JpaMetamodel metamodel) {
+		this( graphSemantic, rootGraphImplementor, metamodel, 0 );
+	}
+
+	/**
+	 * @param collectionBatchSize The value of
+	 * {@value org.hibernate.cfg.FetchSettings#ENTITY_GRAPH_COLLECTION_BATCH_SIZE}:
+	 * when greater than 1, the collections of the graph are fetched by separate queries
+	 */
+	public StandardEntityGraphTraversalStateImpl(
+			GraphSemantic graphSemantic,
+			RootGraphImplementor<?> rootGraphImplementor,
+			JpaMetamodel metamodel,
+			int collectionBatchSize) {
 		Objects.requireNonNull( graphSemantic, "graphSemantic cannot be null" );
 		Objects.requireNonNull( rootGraphImplementor, "rootGraphImplementor cannot be null" );
 		this.graphSemantic = graphSemantic;
 		this.currentGraphContext = rootGraphImplementor;
 		this.metamodel = metamodel;
+		this.collectionBatchSize = collectionBatchSize;
 	}
 
 	@Override
@@ -64,7 +89,14 @@ public class StandardEntityGraphTraversalStateImpl implements EntityGraphTravers
 		currentGraphContext = null;
 		final FetchStrategy fetchStrategy;
 		if ( attributeNode != null ) {
-			fetchStrategy = new FetchStrategy( FetchTiming.IMMEDIATE, true );
+			if ( collectionBatchSize > 1 && fetchable instanceof PluralAttributeMapping ) {
+				// fetch the collection by a separate query, to avoid a cartesian product,
+				// which is batched for the execution of the load, see collectionRoles()
+				fetchStrategy = new FetchStrategy( FetchTiming.IMMEDIATE, false );
+			}
+			else {
+				fetchStrategy = new FetchStrategy( FetchTiming.IMMEDIATE, true );
+			}
 			final Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subgraphMap;
 			final Class<?> subgraphMapKey;
 			if ( fetchable instanceof PluralAttributeMapping ) {
@@ -96,6 +128,64 @@ public class StandardEntityGraphTraversalStateImpl implements EntityGraphTravers
 		return new TraversalResult( previousContextRoot, fetchStrategy );
 	}
 
+	/**
+	 * The roles of the collections included in the given entity graph, which are
+	 * fetched by separate queries when
+	 * {@value org.hibernate.cfg.FetchSettings#ENTITY_GRAPH_COLLECTION_BATCH_SIZE}
+	 * is specified, and which are batch fetched while the load executes.
+	 */
+	public static Set<String> collectionRoles(RootGraphImplementor<?> rootGraph, MappingMetamodel metamodel) {
+		final Set<String> roles = new LinkedHashSet<>();
+		if ( rootGraph.getGraphedType() instanceof EntityDomainType<?> entityType ) {
+			collectCollectionRoles(
+					rootGraph,
+					metamodel.getEntityDescriptor( entityType.getHibernateEntityName() ),
+					metamodel,
+					roles
+			);
+		}
+		return roles;
+	}
+
+	private static void collectCollectionRoles(
+			GraphImplementor<?> graph,
+			ManagedMappingType mappingType,
+			MappingMetamodel metamodel,
+			Set<String> roles) {
+		for ( AttributeNodeImplementor<?> attributeNode : graph.getAttributeNodeImplementors() ) {
+			final AttributeMapping attributeMapping = mappingType.findAttributeMapping( attributeNode.getAttributeName() );
+			final ManagedMappingType valueMappingType;
+			if ( attributeMapping instanceof PluralAttributeMapping pluralAttributeMapping ) {
+				roles.add( pluralAttributeMapping.getCollectionDescriptor().getRole() );
+				valueMappingType = managedMappingType( pluralAttributeMapping.getElementDescriptor() );
+			}
+			else {
+				valueMappingType = managedMappingType( attributeMapping );
+			}
+			if ( valueMappingType != null ) {
+				for ( SubGraphImplementor<?> subGraph : attributeNode.getSubGraphMap().values() ) {
+					final ManagedMappingType subGraphMappingType =
+							subGraph.getGraphedType() instanceof EntityDomainType<?> entityType
+									? metamodel.getEntityDescriptor( entityType.getHibernateEntityName() )
+									: valueMappingType;
+					collectCollectionRoles( subGraph, subGraphMappingType, metamodel, roles );
+				}
+			}
+		}
+	}
+
+	private static @Nullable ManagedMappingType managedMappingType(@Nullable Object modelPart) {
+		if ( modelPart instanceof EntityValuedModelPart entityValuedModelPart ) {
+			return entityValuedModelPart.getEntityMappingType();
+		}
+		else if ( modelPart instanceof EmbeddableValuedModelPart embeddableValuedModelPart ) {
+			return embeddableValuedModelPart.getEmbeddableTypeDescriptor();
+		}
+		else {
+			return null;
+		}
+	}
+
 	private Class<?> getEntityCollectionPartJavaClass(CollectionPart collectionPart) {
 		if ( collectionPart instanceof EntityCollectionPart ) {
 			EntityCollectionPart entityCollectionPart = (EntityCollectionPart) collectionPart;
@@ -7,6 +7,7 @@
 package org.hibernate.sql.results.spi;
 
 import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -17,6 +18,8 @@ import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.collection.LoadingCollectionEntry;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Maintains a Stack of processing state related to performing load operations.
  * The state is defined by {@link JdbcValuesSourceProcessingState} which
@@ -54,6 +57,27 @@ public class LoadContexts {
 		return jdbcValuesSourceProcessingStateStack.findCurrentFirstWithParameter( collectionKey, JdbcValuesSourceProcessingState::findLoadingCollectionLocally );
 	}
 
+	/**
+	 * Find the instance of the entity with the given key if it is currently
+	 * being loaded by one of the loads in progress, and so will be initialized
+	 * once that load completes.  A re-entrant load of the same entity may use
+	 * this instance rather than select the entity again.
+	 *
+	 * @param entityKey The key of the entity
+	 *
+	 * @return The instance being loaded, or {@code null} if the entity is not
+	 * being loaded
+	 */
+	public @Nullable Object findLoadingEntity(EntityKey entityKey) {
+		if ( isLoadingFinished() ) {
+			return null;
+		}
+		final EntityHolder holder = persistenceContext.getEntityHolder( entityKey );
+		return holder != null && !holder.isInitialized() && holder.getEntityInitializer() != null
+				? holder.getEntity()
+				: null;
+	}
+
 	/**
 	 * Retrieves the persistence context to which this is bound.
 	 *
@@ -44,4 +44,16 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The batch size most recently used for batch-fetching this collection,
+	 * when {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 * adaptive batch fetching} is enabled, or zero if it was not batch-fetched
+	 * since last Statistics clearing.
+	 *
+	 * @since 7.0
+	 */
+	default int getAdaptiveBatchFetchSize() {
+		return 0;
+	}
 }
@@ -50,4 +50,26 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of distinct SQL {@code update} statements generated (since last
+	 * Statistics clearing) for {@linkplain org.hibernate.annotations.DynamicUpdate
+	 * dynamic updates} of this entity, that is, the number of distinct sets of
+	 * updated columns.
+	 *
+	 * @since 7.0
+	 */
+	long getDynamicUpdateShapeCount();
+
+	/**
+	 * The batch size most recently used for batch-fetching this entity,
+	 * when {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 * adaptive batch fetching} is enabled, or zero if it was not batch-fetched
+	 * since last Statistics clearing.
+	 *
+	 * @since 7.0
+	 */
+	default int getAdaptiveBatchFetchSize() {
+		return 0;
+	}
 }
@@ -145,6 +145,15 @@ public interface Statistics {
 	 */
 	long getEntityFetchCount();
 
+	/**
+	 * The global number of requests to load an entity which was already
+	 * being loaded by an enclosing load, and which were served by the load
+	 * in progress instead of a separate query.
+	 *
+	 * @since 7.0
+	 */
+	long getDeduplicatedEntityLoadCount();
+
 	/**
      * The global number of entity updates.
 	 */
@@ -243,6 +252,16 @@ public interface Statistics {
      */
 	long getFlushCount();
 
+	/**
+	 * The global number of times a session was automatically flushed and
+	 * cleared because the number of entities associated with its persistence
+	 * context reached the threshold specified by
+	 * {@link org.hibernate.SessionBuilder#autoFlushAndClear(int)}.
+	 *
+	 * @since 7.0
+	 */
+	long getAutoFlushAndClearCount();
+
 	/**
 	 * The global number of connections requested by sessions.
 	 * <p>
@@ -380,6 +399,28 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of JDBC batches that were executed.
+	 * <p>
+	 * The ratio of {@link #getJdbcBatchRowCount()} to this value
+	 * is the average size of a JDBC batch, which reflects how well the
+	 * rows written by a flush were grouped.
+	 *
+	 * @since 7.0
+	 */
+	long getJdbcBatchCount();
+
+	/**
+	 * The number of rows added to the JDBC batches that were executed,
+	 * that is, the sum of the sizes of the batches. When an entity is
+	 * mapped to several tables, a row counts once for all the tables.
+	 *
+	 * @see #getJdbcBatchCount()
+	 *
+	 * @since 7.0
+	 */
+	long getJdbcBatchRowCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -25,6 +25,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private volatile int adaptiveBatchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -56,6 +57,11 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return updateCount.sum();
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchSize() {
+		return adaptiveBatchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -76,6 +82,10 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	void setAdaptiveBatchFetchSize(int adaptiveBatchFetchSize) {
+		this.adaptiveBatchFetchSize = adaptiveBatchFetchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
@@ -84,7 +94,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",adaptiveBatchFetchSize=" ).append( this.adaptiveBatchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
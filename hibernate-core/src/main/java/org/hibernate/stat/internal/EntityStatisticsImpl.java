@@ -26,6 +26,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder dynamicUpdateShapeCount = new LongAdder();
+	private volatile int adaptiveBatchFetchSize;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -60,6 +62,15 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	public long getDynamicUpdateShapeCount() {
+		return dynamicUpdateShapeCount.sum();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchSize() {
+		return adaptiveBatchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -84,6 +95,14 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void incrementDynamicUpdateShapeCount() {
+		dynamicUpdateShapeCount.increment();
+	}
+
+	void setAdaptiveBatchFetchSize(int adaptiveBatchFetchSize) {
+		this.adaptiveBatchFetchSize = adaptiveBatchFetchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -93,7 +112,9 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",dynamicUpdateShapeCount=" ).append( this.dynamicUpdateShapeCount )
+				.append( ",adaptiveBatchFetchSize=" ).append( this.adaptiveBatchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -61,16 +61,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder sessionOpenCount = new LongAdder();
 	private final LongAdder sessionCloseCount = new LongAdder();
 	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder autoFlushAndClearCount = new LongAdder();
 	private final LongAdder connectCount = new LongAdder();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder jdbcBatchCount = new LongAdder();
+	private final LongAdder jdbcBatchRowCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
 	private final LongAdder entityInsertCount = new LongAdder();
 	private final LongAdder entityDeleteCount = new LongAdder();
 	private final LongAdder entityFetchCount = new LongAdder();
+	private final LongAdder deduplicatedEntityLoadCount = new LongAdder();
 	private final LongAdder collectionLoadCount = new LongAdder();
 	private final LongAdder collectionUpdateCount = new LongAdder();
 	private final LongAdder collectionRemoveCount = new LongAdder();
@@ -168,16 +172,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		sessionCloseCount.reset();
 		sessionOpenCount.reset();
 		flushCount.reset();
+		autoFlushAndClearCount.reset();
 		connectCount.reset();
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		jdbcBatchCount.reset();
+		jdbcBatchRowCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
 		entityUpdateCount.reset();
 		entityLoadCount.reset();
 		entityFetchCount.reset();
+		deduplicatedEntityLoadCount.reset();
 
 		collectionRemoveCount.reset();
 		collectionUpdateCount.reset();
@@ -267,6 +275,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return entityFetchCount.sum();
 	}
 
+	@Override
+	public long getDeduplicatedEntityLoadCount() {
+		return deduplicatedEntityLoadCount.sum();
+	}
+
 	@Override
 	public long getEntityDeleteCount() {
 		return entityDeleteCount.sum();
@@ -299,6 +312,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void deduplicatedEntityLoad(String entityName) {
+		deduplicatedEntityLoadCount.increment();
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -323,6 +341,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementOptimisticFailureCount();
 	}
 
+	@Override
+	public void dynamicUpdateShape(String entityName) {
+		getEntityStatistics( entityName ).incrementDynamicUpdateShapeCount();
+	}
+
+	@Override
+	public void adaptiveEntityBatchFetchSize(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setAdaptiveBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void entityCachePut(NavigableRole entityName, String regionName) {
 		secondLevelCachePutCount.increment();
@@ -418,6 +446,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementRemoveCount();
 	}
 
+	@Override
+	public void adaptiveCollectionBatchFetchSize(String role, int batchSize) {
+		getCollectionStatistics( role ).setAdaptiveBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void collectionCachePut(NavigableRole collectionRole, String regionName) {
 		secondLevelCachePutCount.increment();
@@ -827,6 +860,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return flushCount.sum();
 	}
 
+	@Override
+	public long getAutoFlushAndClearCount() {
+		return autoFlushAndClearCount.sum();
+	}
+
 	@Override
 	public long getConnectCount() {
 		return connectCount.sum();
@@ -852,6 +890,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getJdbcBatchCount() {
+		return jdbcBatchCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchRowCount() {
+		return jdbcBatchRowCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -867,6 +915,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		flushCount.increment();
 	}
 
+	@Override
+	public void autoFlushAndClear() {
+		autoFlushAndClearCount.increment();
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -882,6 +935,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void jdbcBatchExecuted(int rowCount) {
+		jdbcBatchCount.increment();
+		jdbcBatchRowCount.add( rowCount );
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -943,9 +1002,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",successful transactions=" + committedTransactionCount +
 				",optimistic lock failures=" + optimisticFailureCount +
 				",flushes=" + flushCount +
+				",automatic flush and clears=" + autoFlushAndClearCount +
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",JDBC batches executed=" + jdbcBatchCount +
+				",rows executed in JDBC batches=" + jdbcBatchRowCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -954,6 +1016,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",entities inserted=" + entityInsertCount +
 				",entities deleted=" + entityDeleteCount +
 				",entities fetched=" + entityFetchCount +
+				",entity loads deduplicated=" + deduplicatedEntityLoadCount +
 				",collections loaded=" + collectionLoadCount +
 				",collections updated=" + collectionUpdateCount +
 				",collections removed=" + collectionRemoveCount +
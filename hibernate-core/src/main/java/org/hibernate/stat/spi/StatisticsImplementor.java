@@ -35,6 +35,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void flush();
 
+	/**
+	 * Callback about a session being automatically flushed and cleared because
+	 * it reached its managed entity threshold.
+	 *
+	 * @see org.hibernate.SessionBuilder#autoFlushAndClear(int)
+	 */
+	default void autoFlushAndClear() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a connection being obtained from {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
 	 */
@@ -50,6 +60,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a JDBC batch being executed.
+	 *
+	 * @param rowCount the number of rows added to the batch
+	 */
+	default void jdbcBatchExecuted(int rowCount) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -73,6 +92,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about a request to load an entity being served by a load of
+	 * the same entity which was already in progress, instead of a separate
+	 * query.
+	 *
+	 * @param entityName The name of the entity.
+	 */
+	default void deduplicatedEntityLoad(String entityName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -101,6 +131,36 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void optimisticFailure(String entityName);
 
+	/**
+	 * Callback about a new {@linkplain org.hibernate.annotations.DynamicUpdate dynamic}
+	 * SQL update statement being generated for an entity
+	 *
+	 * @param entityName The name of the entity.
+	 */
+	default void dynamicUpdateShape(String entityName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the batch size used for batch-fetching an entity
+	 *
+	 * @param entityName The name of the entity.
+	 * @param batchSize The batch size used.
+	 */
+	default void adaptiveEntityBatchFetchSize(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the batch size used for batch-fetching a collection
+	 *
+	 * @param role The collection role.
+	 * @param batchSize The batch size used.
+	 */
+	default void adaptiveCollectionBatchFetchSize(String role, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a collection loading.  This might indicate a lazy collection or an initialized collection being
 	 * created, but in either case it means without a separate SQL query being needed.
@@ -286,6 +346,30 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	@Override
+	default long getAutoFlushAndClearCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	@Override
+	default long getJdbcBatchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	@Override
+	default long getJdbcBatchRowCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	@Override
+	default long getDeduplicatedEntityLoadCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	@Override
 	default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
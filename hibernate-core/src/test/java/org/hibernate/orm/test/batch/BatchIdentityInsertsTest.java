@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_IDENTITY_INSERTS}.
+ */
+@DomainModel(annotatedClasses = BatchIdentityInsertsTest.Event.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.BATCH_IDENTITY_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+public class BatchIdentityInsertsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertionsDelayedUntilFlush(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final boolean insertMultiple = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Event.class )
+				.getInsertCoordinator()
+				.supportsInsertMultiple();
+
+		final List<Event> events = new ArrayList<>();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			for ( int i = 0; i < 15; i++ ) {
+				final Event event = new Event( "event " + i );
+				session.persist( event );
+				events.add( event );
+			}
+			if ( insertMultiple ) {
+				// the identifiers are only assigned by the flush
+				assertNull( events.get( 0 ).id );
+				assertEquals( 0, countInserts( statementInspector ) );
+			}
+
+			session.flush();
+
+			for ( Event event : events ) {
+				assertNotNull( event.id );
+				assertEquals( event, session.find( Event.class, event.id ) );
+			}
+			assertEquals( insertMultiple ? 1 : 15, countInserts( statementInspector ) );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Event event : events ) {
+				assertEquals( event.name, session.find( Event.class, event.id ).name );
+			}
+		} );
+	}
+
+	private static long countInserts(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().contains( "insert" ) )
+				.count();
+	}
+
+	@Entity(name = "Event")
+	static class Event {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String name;
+
+		Event() {
+		}
+
+		Event(String name) {
+			this.name = name;
+		}
+	}
+}
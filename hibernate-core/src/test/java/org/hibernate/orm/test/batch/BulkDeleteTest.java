@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OptimisticLockException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_BULK_DELETES}.
+ */
+@DomainModel(annotatedClasses = { BulkDeleteTest.Basket.class, BulkDeleteTest.Fruit.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.BATCH_BULK_DELETES, value = "true"),
+		@Setting(name = AvailableSettings.JAKARTA_VALIDATION_MODE, value = "none"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class BulkDeleteTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Basket basket = new Basket( 1L );
+			for ( long i = 1; i <= 20; i++ ) {
+				final Fruit fruit = new Fruit( i, basket );
+				basket.fruits.add( fruit );
+			}
+			session.persist( basket );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Fruit" ).executeUpdate();
+			session.createMutationQuery( "delete from Basket" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testOrphanRemoval(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final Basket basket = session.find( Basket.class, 1L );
+			basket.fruits.clear();
+			statementInspector.clear();
+		} );
+
+		assertEquals( 1, countDeletes( statementInspector ) );
+		assertEquals( 20, statistics.getEntityDeleteCount() );
+
+		scope.inTransaction( session -> {
+			assertEquals(
+					0L,
+					session.createSelectionQuery( "select count(*) from Fruit", Long.class ).getSingleResult()
+			);
+			assertEquals( 0, session.find( Basket.class, 1L ).fruits.size() );
+		} );
+	}
+
+	@Test
+	public void testCascadeRemove(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final Basket basket = session.find( Basket.class, 1L );
+			basket.fruits.size();
+			session.remove( basket );
+			statementInspector.clear();
+		} );
+
+		// one statement for the fruits, and one for the basket
+		assertEquals( 2, countDeletes( statementInspector ) );
+
+		scope.inTransaction( session -> {
+			assertNull( session.find( Basket.class, 1L ) );
+			assertNull( session.find( Fruit.class, 7L ) );
+		} );
+	}
+
+	@Test
+	public void testStaleInstance(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final Basket basket = session.find( Basket.class, 1L );
+				basket.fruits.size();
+				session.createNativeMutationQuery( "delete from Fruit where id = 7" ).executeUpdate();
+				basket.fruits.clear();
+
+				// like a batch, the bulk delete reports the entity, but not the instance
+				final OptimisticLockException exception =
+						assertThrows( OptimisticLockException.class, session::flush );
+				assertInstanceOf( StaleStateException.class, exception.getCause() );
+				assertTrue( exception.getCause().getMessage().contains( Fruit.class.getName() ) );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	private static long countDeletes(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "delete" ) )
+				.count();
+	}
+
+	@Entity(name = "Basket")
+	public static class Basket {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "basket", cascade = CascadeType.ALL, orphanRemoval = true)
+		private List<Fruit> fruits = new ArrayList<>();
+
+		public Basket() {
+		}
+
+		public Basket(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Fruit")
+	public static class Fruit {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Basket basket;
+
+		public Fruit() {
+		}
+
+		public Fruit(Long id, Basket basket) {
+			this.id = id;
+			this.basket = basket;
+		}
+	}
+}
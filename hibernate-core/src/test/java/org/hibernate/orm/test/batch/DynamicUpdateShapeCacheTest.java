@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Dynamic updates of the same shape reuse the same SQL and are batched.
+ */
+@DomainModel(annotatedClasses = DynamicUpdateShapeCacheTest.Account.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.ORDER_UPDATES, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class DynamicUpdateShapeCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 11; i++ ) {
+				session.persist( new Account( i, "account " + i, 0 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUpdatesOfSameShapeAreBatched(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+					.getResultList();
+			for ( Account account : accounts ) {
+				if ( account.id <= 10 ) {
+					account.balance = account.id * 10;
+				}
+				else {
+					account.name = "renamed";
+				}
+			}
+		} );
+
+		assertEquals( 2, statistics.getEntityStatistics( Account.class.getName() ).getDynamicUpdateShapeCount() );
+		assertEquals( 11, statistics.getEntityUpdateCount() );
+		// the ten balance updates in one batch, the name update in another
+		assertEquals( 2, statistics.getJdbcBatchCount() );
+		assertEquals( 11, statistics.getJdbcBatchRowCount() );
+
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Account.class, 1L ).balance = -1 );
+		// the shape was already known
+		assertEquals( 0, statistics.getEntityStatistics( Account.class.getName() ).getDynamicUpdateShapeCount() );
+
+		scope.inTransaction( session -> {
+			assertEquals( -1, session.find( Account.class, 1L ).balance );
+			assertEquals( 50, session.find( Account.class, 5L ).balance );
+			assertEquals( "account 5", session.find( Account.class, 5L ).name );
+			assertEquals( "renamed", session.find( Account.class, 11L ).name );
+			assertEquals( 0, session.find( Account.class, 11L ).balance );
+		} );
+	}
+
+	@Entity(name = "Account")
+	@DynamicUpdate
+	public static class Account {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private long balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, String name, long balance) {
+			this.id = id;
+			this.name = name;
+			this.balance = balance;
+		}
+	}
+}
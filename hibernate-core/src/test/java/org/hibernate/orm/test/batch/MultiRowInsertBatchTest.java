@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_MULTI_ROW_INSERTS}.
+ */
+@DomainModel(annotatedClasses = { MultiRowInsertBatchTest.Measurement.class, MultiRowInsertBatchTest.Note.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Measurement" ).executeUpdate();
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertsAreCombined(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 25; i++ ) {
+				session.persist( new Measurement( i, i * 0.5 ) );
+			}
+		} );
+
+		final List<String> inserts = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "insert" ) )
+				.toList();
+		// two full batches of 10 rows, and the remaining 5 rows
+		assertEquals( 3, inserts.size() );
+		assertEquals( 10, rows( inserts.get( 0 ) ) );
+		assertEquals( 10, rows( inserts.get( 1 ) ) );
+		assertEquals( 5, rows( inserts.get( 2 ) ) );
+
+		scope.inTransaction( session -> {
+			assertEquals(
+					25L,
+					session.createSelectionQuery( "select count(*) from Measurement", Long.class ).getSingleResult()
+			);
+			assertEquals( 12.5, session.find( Measurement.class, 25L ).reading );
+		} );
+	}
+
+	@Test
+	public void testSingleInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> session.persist( new Measurement( 1L, 1.0 ) ) );
+
+		statementInspector.assertExecutedCount( 1 );
+		assertEquals( 1, rows( statementInspector.getSqlQueries().get( 0 ) ) );
+		scope.inTransaction( session -> assertEquals( 1.0, session.find( Measurement.class, 1L ).reading ) );
+	}
+
+	@Test
+	public void testWriteExpressionIsRenderedForEachRow(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				session.persist( new Note( i, "note " + i ) );
+			}
+		} );
+
+		statementInspector.assertExecutedCount( 1 );
+		assertEquals( 3, rows( statementInspector.getSqlQueries().get( 0 ) ) );
+		scope.inTransaction( session -> {
+			assertEquals( "NOTE 1", session.find( Note.class, 1L ).content );
+			assertEquals( "NOTE 3", session.find( Note.class, 3L ).content );
+		} );
+	}
+
+	private static int rows(String sql) {
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Long id;
+
+		private double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Long id;
+
+		@ColumnTransformer(write = "upper(?)")
+		private String content;
+
+		public Note() {
+		}
+
+		public Note(Long id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
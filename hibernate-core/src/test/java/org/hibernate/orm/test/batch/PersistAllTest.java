@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.Session#persistAll(java.util.Collection)}.
+ */
+@DomainModel(annotatedClasses = { PersistAllTest.Parent.class, PersistAllTest.Child.class, PersistAllTest.Item.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "50"),
+		@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class PersistAllTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersistAllWithSharedCascade(SessionFactoryScope scope) {
+		final Parent parent = new Parent();
+		final List<Child> children = new ArrayList<>();
+		for ( int i = 0; i < 200; i++ ) {
+			children.add( new Child( parent, "child " + i ) );
+		}
+
+		scope.inTransaction( session -> {
+			session.persistAll( children );
+			assertTrue( session.contains( parent ) );
+			for ( Child child : children ) {
+				assertTrue( session.contains( child ) );
+			}
+		} );
+
+		assertNotNull( parent.id );
+		scope.inTransaction( session -> {
+			assertEquals(
+					200L,
+					session.createSelectionQuery( "select count(*) from Child where parent.id = :id", Long.class )
+							.setParameter( "id", parent.id )
+							.getSingleResult()
+			);
+			assertEquals(
+					1L,
+					session.createSelectionQuery( "select count(*) from Parent", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testPersistAllIgnoresPersistentInstances(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent parent = new Parent();
+			final Child first = new Child( parent, "first" );
+			session.persist( first );
+			final Child second = new Child( parent, "second" );
+			session.persistAll( List.of( first, second, parent ) );
+			assertTrue( session.contains( second ) );
+		} );
+
+		scope.inTransaction( session -> assertEquals(
+				2L,
+				session.createSelectionQuery( "select count(*) from Child", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testPersistAllIdentity(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final boolean insertMultiple = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Item.class )
+				.getInsertCoordinator()
+				.supportsInsertMultiple();
+
+		final Parent parent = new Parent();
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			entities.add( new Item( "item " + i ) );
+			entities.add( new Child( parent, "child " + i ) );
+		}
+
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			session.persistAll( entities );
+
+			// the identity values are assigned when persistAll() returns
+			for ( Object entity : entities ) {
+				if ( entity instanceof Item item ) {
+					assertNotNull( item.id );
+				}
+			}
+			final long itemInserts = statementInspector.getSqlQueries().stream()
+					.filter( sql -> sql.toLowerCase().contains( "insert into item" ) )
+					.count();
+			assertEquals( insertMultiple ? 1 : 20, itemInserts );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Object entity : entities ) {
+				if ( entity instanceof Item item ) {
+					assertEquals( item.name, session.find( Item.class, item.id ).name );
+				}
+			}
+			assertEquals(
+					20L,
+					session.createSelectionQuery( "select count(*) from Child", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testPersistAllIdentityLeavesQueuedInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		final List<Item> items = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			items.add( new Item( "item " + i ) );
+		}
+
+		scope.inTransaction( session -> {
+			session.persist( new Child( new Parent(), "queued" ) );
+			statementInspector.clear();
+			session.persistAll( items );
+
+			for ( Item item : items ) {
+				assertNotNull( item.id );
+			}
+			// the insertions queued before persistAll() wait for the flush
+			assertTrue( statementInspector.getSqlQueries().stream()
+					.noneMatch( sql -> sql.toLowerCase().contains( "insert into child" )
+							|| sql.toLowerCase().contains( "insert into parent" ) ) );
+
+			session.flush();
+			assertEquals(
+					1L,
+					statementInspector.getSqlQueries().stream()
+							.filter( sql -> sql.toLowerCase().contains( "insert into child" ) )
+							.count()
+			);
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		@GeneratedValue
+		private Long id;
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Parent parent, String name) {
+			this.parent = parent;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_PIPELINING}.
+ */
+@DomainModel(annotatedClasses = { PipelinedBatchTest.Sensor.class, PipelinedBatchTest.Reading.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.BATCH_PIPELINING, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class PipelinedBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Reading" ).executeUpdate();
+			session.createMutationQuery( "delete from Sensor" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInserts(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				final Sensor sensor = new Sensor( i );
+				session.persist( sensor );
+				for ( long j = 1; j <= 9; j++ ) {
+					session.persist( new Reading( i * 100 + j, sensor, j * 0.5 ) );
+				}
+			}
+		} );
+
+		// one batch of 5 sensors, four full batches of readings and the remaining 5 readings
+		assertEquals( 6, statistics.getJdbcBatchCount() );
+		assertEquals( 50, statistics.getJdbcBatchRowCount() );
+
+		scope.inTransaction( session -> {
+			assertEquals(
+					45L,
+					session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult()
+			);
+			assertEquals( 4.5, session.find( Reading.class, 509L ).amount );
+		} );
+	}
+
+	@Test
+	public void testFailureInPendingBatch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Sensor( 1L ) ) );
+
+		assertThrows(
+				ConstraintViolationException.class,
+				() -> scope.inTransaction( session -> {
+					// the first batch fails, and is reported by the flush
+					session.persist( new Sensor( 1L ) );
+					for ( long i = 2; i <= 25; i++ ) {
+						session.persist( new Sensor( i ) );
+					}
+					session.flush();
+				} )
+		);
+
+		scope.inTransaction( session -> assertEquals(
+				1L,
+				session.createSelectionQuery( "select count(*) from Sensor", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor {
+		@Id
+		private Long id;
+
+		public Sensor() {
+		}
+
+		public Sensor(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Sensor sensor;
+
+		private double amount;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, Sensor sensor, double amount) {
+			this.id = id;
+			this.sensor = sensor;
+			this.amount = amount;
+		}
+	}
+}
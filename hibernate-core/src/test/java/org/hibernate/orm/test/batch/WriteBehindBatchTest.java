@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jta.TestingJtaPlatformImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.transaction.TransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_WRITE_BEHIND}.
+ */
+@DomainModel(annotatedClasses = { WriteBehindBatchTest.Sensor.class, WriteBehindBatchTest.Reading.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_WRITE_BEHIND, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.JTA_PLATFORM, value = "org.hibernate.testing.jta.TestingJtaPlatformImpl"),
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER, value = "org.hibernate.testing.jta.JtaAwareConnectionProviderImpl"),
+		@Setting(name = AvailableSettings.TRANSACTION_COORDINATOR_STRATEGY, value = "jta")
+})
+@SessionFactory
+public class WriteBehindBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		transactionManager.begin();
+		try ( StatelessSession session = scope.getSessionFactory().openStatelessSession() ) {
+			session.createMutationQuery( "delete from Reading" ).executeUpdate();
+			session.createMutationQuery( "delete from Sensor" ).executeUpdate();
+		}
+		transactionManager.commit();
+	}
+
+	@Test
+	public void testStatementsOfSessionsAreMerged(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		transactionManager.begin();
+		try {
+			for ( long i = 1; i <= 3; i++ ) {
+				try ( StatelessSession session = scope.getSessionFactory().openStatelessSession() ) {
+					session.insert( new Sensor( i ) );
+				}
+			}
+			for ( long i = 1; i <= 3; i++ ) {
+				try ( StatelessSession session = scope.getSessionFactory().openStatelessSession() ) {
+					for ( long j = 1; j <= 3; j++ ) {
+						session.insert( new Reading( i * 100 + j, new Sensor( i ), j * 0.5 ) );
+					}
+				}
+			}
+			// nothing was executed yet
+			assertEquals( 0, statistics.getJdbcBatchCount() );
+			transactionManager.commit();
+		}
+		catch (Exception e) {
+			transactionManager.rollback();
+			throw e;
+		}
+
+		// one batch of 3 sensors, and one of 9 readings
+		assertEquals( 2, statistics.getJdbcBatchCount() );
+		assertEquals( 12, statistics.getJdbcBatchRowCount() );
+
+		transactionManager.begin();
+		try ( StatelessSession session = scope.getSessionFactory().openStatelessSession() ) {
+			assertEquals(
+					9L,
+					session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult()
+			);
+			assertEquals( 1.5, session.get( Reading.class, 303L ).amount );
+		}
+		transactionManager.commit();
+	}
+
+	@Test
+	public void testStatementsAreNotMovedBeforeOtherSessions(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		transactionManager.begin();
+		try {
+			for ( long i = 1; i <= 3; i++ ) {
+				try ( StatelessSession session = scope.getSessionFactory().openStatelessSession() ) {
+					final Sensor sensor = new Sensor( i );
+					session.insert( sensor );
+					for ( long j = 1; j <= 3; j++ ) {
+						session.insert( new Reading( i * 100 + j, sensor, j * 0.5 ) );
+					}
+				}
+			}
+			transactionManager.commit();
+		}
+		catch (Exception e) {
+			transactionManager.rollback();
+			throw e;
+		}
+
+		// the sensor of a session is not merged into the batch of the sensor
+		// of a previous session, ahead of the readings of that session
+		assertEquals( 6, statistics.getJdbcBatchCount() );
+		assertEquals( 12, statistics.getJdbcBatchRowCount() );
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor {
+		@Id
+		private Long id;
+
+		public Sensor() {
+		}
+
+		public Sensor(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Sensor sensor;
+
+		private double amount;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, Sensor sensor, double amount) {
+			this.id = id;
+			this.sensor = sensor;
+			this.amount = amount;
+		}
+	}
+}
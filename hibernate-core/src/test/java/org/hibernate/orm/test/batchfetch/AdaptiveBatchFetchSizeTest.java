@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#ADAPTIVE_BATCH_FETCH_SIZE}.
+ */
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchSizeTest.Department.class, AdaptiveBatchFetchSizeTest.Employee.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_SIZE, value = "50"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveBatchFetchSizeTest {
+	private static final int DEPARTMENTS = 10;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= DEPARTMENTS; i++ ) {
+				final Department department = new Department( i, "department " + i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatchCoversPendingKeys(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Integer> batchFetchCounts = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			statementInspector.clear();
+			scope.inTransaction( session -> {
+				for ( Employee employee : session.createSelectionQuery( "from Employee", Employee.class ).getResultList() ) {
+					Hibernate.initialize( employee.department );
+				}
+			} );
+			batchFetchCounts.add( statementInspector.getSqlQueries().size() - 1 );
+		}
+
+		// the static batch size of 2 would need 5 batch fetches each time
+		assertEquals( List.of( 1, 1, 1, 1, 1 ), batchFetchCounts );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertEquals(
+				DEPARTMENTS,
+				statistics.getEntityStatistics( Department.class.getName() ).getAdaptiveBatchFetchSize()
+		);
+	}
+
+	@Test
+	public void testCollectionBatchCoversPendingKeys(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Integer> batchFetchCounts = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			statementInspector.clear();
+			scope.inTransaction( session -> {
+				for ( Department department : session.createSelectionQuery( "from Department", Department.class ).getResultList() ) {
+					Hibernate.initialize( department.employees );
+				}
+			} );
+			batchFetchCounts.add( statementInspector.getSqlQueries().size() - 1 );
+		}
+
+		assertEquals( List.of( 1, 1, 1, 1, 1 ), batchFetchCounts );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertEquals(
+				DEPARTMENTS,
+				statistics.getCollectionStatistics( Department.class.getName() + ".employees" )
+						.getAdaptiveBatchFetchSize()
+		);
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 2)
+	public static class Department {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "department")
+		@BatchSize(size = 2)
+		private List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
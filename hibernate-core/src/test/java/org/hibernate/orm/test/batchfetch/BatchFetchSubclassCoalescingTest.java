@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that keys queued for batch fetching by associations targeting a
+ * subclass are fetched together with the keys queued by associations
+ * targeting its superclass.
+ */
+@DomainModel(annotatedClasses = {
+		BatchFetchSubclassCoalescingTest.Party.class,
+		BatchFetchSubclassCoalescingTest.Customer.class,
+		BatchFetchSubclassCoalescingTest.PurchaseOrder.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "20"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class BatchFetchSubclassCoalescingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Customer customer = new Customer( i, "customer " + i );
+				final Party billTo = new Party( 100 + i, "party " + i );
+				session.persist( customer );
+				session.persist( billTo );
+				session.persist( new PurchaseOrder( i, customer, billTo ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from PurchaseOrder" ).executeUpdate();
+			session.createMutationQuery( "delete from Party" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSuperclassBatchIncludesSubclassKeys(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<PurchaseOrder> orders =
+					session.createSelectionQuery( "from PurchaseOrder", PurchaseOrder.class ).getResultList();
+			assertEquals( 1, statementInspector.getSqlQueries().size() );
+
+			// the batch for the Party also fetches the pending Customers
+			Hibernate.initialize( orders.get( 0 ).billTo );
+			assertEquals( 2, statementInspector.getSqlQueries().size() );
+
+			for ( PurchaseOrder order : orders ) {
+				Hibernate.initialize( order.billTo );
+				Hibernate.initialize( order.customer );
+			}
+			assertEquals( 2, statementInspector.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testSubclassBatchExcludesSuperclassKeys(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<PurchaseOrder> orders =
+					session.createSelectionQuery( "from PurchaseOrder", PurchaseOrder.class ).getResultList();
+
+			// the batch for the Customer must not fetch the pending Parties,
+			// which might not be Customers
+			Hibernate.initialize( orders.get( 0 ).customer );
+			assertEquals( 2, statementInspector.getSqlQueries().size() );
+			for ( PurchaseOrder order : orders ) {
+				Hibernate.initialize( order.customer );
+			}
+			assertEquals( 2, statementInspector.getSqlQueries().size() );
+
+			for ( PurchaseOrder order : orders ) {
+				Hibernate.initialize( order.billTo );
+			}
+			assertEquals( 3, statementInspector.getSqlQueries().size() );
+		} );
+	}
+
+	@Entity(name = "Party")
+	public static class Party {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Party() {
+		}
+
+		public Party(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer extends Party {
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Party billTo;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id, Customer customer, Party billTo) {
+			this.id = id;
+			this.customer = customer;
+			this.billTo = billTo;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for batch fetches which are split into chunks of {@value #CHUNK_SIZE} keys,
+ * because they exceed the parameter limit of the dialect.
+ */
+@DomainModel(annotatedClasses = { MultiKeyLoadChunkingTest.Department.class, MultiKeyLoadChunkingTest.Employee.class })
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = MultiKeyLoadChunkingTest.DialectProvider.class
+		)
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class MultiKeyLoadChunkingTest {
+	private static final int CHUNK_SIZE = 5;
+	private static final int DEPARTMENTS = 12;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= DEPARTMENTS; i++ ) {
+				final Department department = new Department( i, "department " + i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityBatchChunks(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inSession( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+			Hibernate.initialize( employees.get( 0 ).department );
+
+			// the query, and one select per chunk
+			assertEquals( 4, statementInspector.getSqlQueries().size() );
+			for ( Employee employee : employees ) {
+				Hibernate.initialize( employee.department );
+				assertEquals( "department " + employee.id, employee.department.getName() );
+			}
+			assertEquals( 4, statementInspector.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchChunks(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inSession( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department order by id", Department.class ).getResultList();
+			Hibernate.initialize( departments.get( 0 ).employees );
+
+			assertEquals( 4, statementInspector.getSqlQueries().size() );
+			for ( Department department : departments ) {
+				assertEquals( 1, department.employees.size() );
+				assertEquals( department.id, department.employees.get( 0 ).id );
+			}
+			assertEquals( 4, statementInspector.getSqlQueries().size() );
+		} );
+	}
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return ChunkingH2Dialect.class.getName();
+		}
+	}
+
+	public static class ChunkingH2Dialect extends H2Dialect {
+		@Override
+		public boolean useArrayForMultiValuedParameters() {
+			return false;
+		}
+
+		@Override
+		public int getParameterCountLimit() {
+			return CHUNK_SIZE;
+		}
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 20)
+	public static class Department {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "department")
+		@BatchSize(size = 20)
+		private List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.internal.NPlusOneDetector;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.Logger;
+import org.hibernate.testing.orm.junit.MessageKeyInspection;
+import org.hibernate.testing.orm.junit.MessageKeyWatcher;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD} and
+ * {@link AvailableSettings#N_PLUS_ONE_BATCH_FETCH_SIZE}.
+ */
+@DomainModel(annotatedClasses = { NPlusOneDetectionTest.Department.class, NPlusOneDetectionTest.Employee.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.N_PLUS_ONE_DETECTION_THRESHOLD, value = "3"),
+		@Setting(name = AvailableSettings.N_PLUS_ONE_BATCH_FETCH_SIZE, value = "10")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@MessageKeyInspection(messageKey = "N+1 selects detected", logger = @Logger(loggerNameClass = NPlusOneDetector.class))
+public class NPlusOneDetectionTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Department department = new Department( i, "department " + i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testProxyInitializationIsPromotedToBatchFetching(SessionFactoryScope scope, MessageKeyWatcher watcher) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( Employee employee : session.createSelectionQuery( "from Employee", Employee.class ).getResultList() ) {
+				Hibernate.initialize( employee.department );
+			}
+		} );
+
+		// the query, two single fetches, and one batch for the other 8
+		assertEquals( 4, statementInspector.getSqlQueries().size() );
+		assertTrue( watcher.wasTriggered() );
+		assertEquals( 1, watcher.getTriggeredMessages().size() );
+		assertTrue( watcher.getTriggeredMessages().get( 0 ).contains( Department.class.getName() ) );
+	}
+
+	@Test
+	public void testCollectionInitializationIsPromotedToBatchFetching(SessionFactoryScope scope, MessageKeyWatcher watcher) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( Department department : session.createSelectionQuery( "from Department", Department.class ).getResultList() ) {
+				assertEquals( 1, department.employees.size() );
+			}
+		} );
+
+		assertEquals( 4, statementInspector.getSqlQueries().size() );
+		assertTrue( watcher.wasTriggered() );
+		assertTrue( watcher.getTriggeredMessages().get( 0 ).contains( Department.class.getName() + ".employees" ) );
+	}
+
+	@Test
+	public void testDetectionIsPerSession(SessionFactoryScope scope, MessageKeyWatcher watcher) {
+		for ( int i = 1; i <= 4; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> Hibernate.initialize( session.getReference( Department.class, id ) ) );
+		}
+		assertFalse( watcher.wasTriggered() );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "department")
+		private List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.Session#prefetch}.
+ */
+@DomainModel(annotatedClasses = {
+		SessionPrefetchTest.Author.class,
+		SessionPrefetchTest.Book.class,
+		SessionPrefetchTest.Publisher.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class SessionPrefetchTest {
+	private static final int AUTHORS = 5;
+	private static final int PUBLISHERS = 3;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= PUBLISHERS; i++ ) {
+				session.persist( new Publisher( i ) );
+			}
+			for ( int i = 1; i <= AUTHORS; i++ ) {
+				final Author author = new Author( i );
+				session.persist( author );
+				for ( int j = 0; j < 3; j++ ) {
+					final Publisher publisher = session.getReference( Publisher.class, j + 1 );
+					session.persist( new Book( i * 10 + j, author, publisher ) );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPrefetchNestedPath(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+			statementInspector.clear();
+
+			session.prefetch( authors, "books.publisher" );
+
+			// one query for the books, and one for the publishers
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+
+			statementInspector.clear();
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+				assertThat( author.books ).hasSize( 3 );
+				for ( Book book : author.books ) {
+					assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+				}
+			}
+			assertThat( statementInspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testPrefetchToOne(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			statementInspector.clear();
+
+			session.prefetch( books, "author", "publisher" );
+
+			// one query for the authors, and one for the publishers
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+			for ( Book book : books ) {
+				assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+				assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void testPrefetchRestoresBatchSizes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+
+			session.prefetch( authors, "books.publisher" );
+
+			// the batch sizes are overridden only while prefetching
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			assertThat( influencers.isBatchFetchingEnabled( Author.class.getName() + ".books" ) ).isFalse();
+			assertThat( influencers.isBatchFetchingEnabled( Publisher.class.getName() ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testPrefetchUnknownAttribute(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+			assertThatThrownBy( () -> session.prefetch( authors, "books.title" ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "author")
+		private Set<Book> books = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = "book " + id;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id) {
+			this.id = id;
+		}
+	}
+}
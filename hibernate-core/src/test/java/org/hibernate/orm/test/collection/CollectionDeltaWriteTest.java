@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that changes to bags and lists of values are written either row by row,
+ * or by recreating the collection, whichever needs fewer statements.
+ */
+@DomainModel(annotatedClasses = CollectionDeltaWriteTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class CollectionDeltaWriteTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document( 1L );
+			for ( int i = 0; i < 50; i++ ) {
+				document.tags.add( "tag " + i );
+				document.lines.add( "line " + i );
+			}
+			document.tags.add( "tag 0" );
+			session.persist( document );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( Document.class, 1L ) ) );
+	}
+
+	@Test
+	public void testRemoveFromBag(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			document.tags.remove( "tag 7" );
+			statementInspector.clear();
+		} );
+
+		// only the row with the removed value is deleted
+		assertThat( count( statementInspector, "delete" ) ).isEqualTo( 1 );
+		assertThat( count( statementInspector, "insert" ) ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> {
+			final List<String> tags = session.find( Document.class, 1L ).tags;
+			assertThat( tags ).hasSize( 50 ).doesNotContain( "tag 7" );
+		} );
+	}
+
+	@Test
+	public void testRemoveDuplicateFromBag(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			document.tags.remove( "tag 0" );
+			document.tags.add( "tag 50" );
+			statementInspector.clear();
+		} );
+
+		// a row of a value which occurs twice can't be deleted on its own,
+		// so the bag is recreated
+		assertThat( count( statementInspector, "delete" ) ).isEqualTo( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "tag=?" );
+		assertThat( count( statementInspector, "insert" ) ).isEqualTo( 51 );
+
+		scope.inTransaction( session -> {
+			final List<String> tags = session.find( Document.class, 1L ).tags;
+			assertThat( tags ).hasSize( 51 ).containsOnlyOnce( "tag 0" ).contains( "tag 50" );
+		} );
+	}
+
+	@Test
+	public void testAddToBag(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			document.tags.remove( "tag 7" );
+			document.tags.add( "tag 0" );
+			document.tags.add( "tag 50" );
+			statementInspector.clear();
+		} );
+
+		// the row with the removed value is deleted, and the two added values inserted
+		assertThat( count( statementInspector, "delete" ) ).isEqualTo( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( "tag=?" );
+		assertThat( count( statementInspector, "insert" ) ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final List<String> tags = session.find( Document.class, 1L ).tags;
+			assertThat( tags ).hasSize( 52 ).doesNotContain( "tag 7" ).contains( "tag 50" );
+			assertThat( tags.stream().filter( "tag 0"::equals ) ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testTruncateList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			document.lines.subList( 1, document.lines.size() ).clear();
+			statementInspector.clear();
+		} );
+
+		// the list is recreated, instead of deleting 49 rows one by one
+		assertThat( count( statementInspector, "delete" ) ).isEqualTo( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "lines_ORDER" );
+		assertThat( count( statementInspector, "insert" ) ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final List<String> lines = session.find( Document.class, 1L ).lines;
+			assertThat( lines ).containsExactly( "line 0" );
+		} );
+	}
+
+	private static long count(SQLStatementInspector statementInspector, String prefix) {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( prefix ) )
+				.count();
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		@CollectionTable(name = "document_tags")
+		@Column(name = "tag", nullable = false)
+		private List<String> tags = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "document_lines")
+		@OrderColumn
+		@Column(name = "line_text")
+		private List<String> lines = new ArrayList<>();
+
+		public Document() {
+		}
+
+		public Document(Long id) {
+			this.id = id;
+		}
+	}
+}
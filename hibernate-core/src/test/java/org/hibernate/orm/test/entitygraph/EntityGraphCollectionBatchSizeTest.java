@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#ENTITY_GRAPH_COLLECTION_BATCH_SIZE}.
+ */
+@DomainModel(annotatedClasses = {
+		EntityGraphCollectionBatchSizeTest.Department.class,
+		EntityGraphCollectionBatchSizeTest.Employee.class,
+		EntityGraphCollectionBatchSizeTest.Project.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.ENTITY_GRAPH_COLLECTION_BATCH_SIZE, value = "50"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class EntityGraphCollectionBatchSizeTest {
+	private static final int DEPARTMENTS = 5;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= DEPARTMENTS; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				for ( int j = 0; j < 3; j++ ) {
+					session.persist( new Employee( i * 10 + j, department ) );
+					session.persist( new Project( i * 10 + j, department ) );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Project" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testQueryWithGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final RootGraph<Department> graph = session.createEntityGraph( Department.class );
+			graph.addAttributeNodes( "employees", "projects" );
+
+			final List<Department> departments = session.createSelectionQuery( "from Department", Department.class )
+					.setEntityGraph( graph, GraphSemantic.LOAD )
+					.getResultList();
+
+			assertThat( departments ).hasSize( DEPARTMENTS );
+			for ( Department department : departments ) {
+				assertThat( Hibernate.isInitialized( department.employees ) ).isTrue();
+				assertThat( Hibernate.isInitialized( department.projects ) ).isTrue();
+				assertThat( department.employees ).hasSize( 3 );
+				assertThat( department.projects ).hasSize( 3 );
+			}
+		} );
+
+		// the root query, and one query per collection role
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( " join " );
+	}
+
+	@Test
+	public void testFindWithGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final RootGraph<Department> graph = session.createEntityGraph( Department.class );
+			graph.addAttributeNodes( "employees", "projects" );
+
+			final Department department = session.find(
+					Department.class,
+					1,
+					Map.of( GraphSemantic.FETCH.getJakartaHintName(), graph )
+			);
+
+			assertThat( Hibernate.isInitialized( department.employees ) ).isTrue();
+			assertThat( Hibernate.isInitialized( department.projects ) ).isTrue();
+			assertThat( department.employees ).hasSize( 3 );
+			assertThat( department.projects ).hasSize( 3 );
+		} );
+
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( " join " );
+	}
+
+	@Test
+	public void testBatchFetchingOnlyForGraphLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final RootGraph<Department> graph = session.createEntityGraph( Department.class );
+			graph.addAttributeNodes( "employees", "projects" );
+			session.createSelectionQuery( "from Department", Department.class )
+					.setEntityGraph( graph, GraphSemantic.LOAD )
+					.getResultList();
+			session.clear();
+			statementInspector.clear();
+
+			// without the graph, the collections are not batch fetched
+			final List<Department> departments = session.createSelectionQuery( "from Department", Department.class )
+					.getResultList();
+			for ( Department department : departments ) {
+				assertThat( department.employees ).hasSize( 3 );
+			}
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 + DEPARTMENTS );
+		} );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "department")
+		private Set<Employee> employees = new HashSet<>();
+
+		@OneToMany(mappedBy = "department")
+		private Set<Project> projects = new HashSet<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Project")
+	public static class Project {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Project() {
+		}
+
+		public Project(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -122,6 +123,23 @@ public class PrimitiveByteArrayIdTest {
 		);
 	}
 
+	@Test
+	public void testStatelessGetMultiple(SessionFactoryScope scope) {
+		scope.inStatelessSession(
+				session -> {
+					// equal arrays which are not the same instance identify the same record
+					final List<DemoEntity> results = session.getMultiple(
+							DemoEntity.class,
+							List.of( new byte[] { 3, 4, 5, 6 }, new byte[] { 9, 9, 9, 9 }, new byte[] { 1, 2, 3, 4 } )
+					);
+					assertEquals( 3, results.size() );
+					assertEquals( "Simple name 2", results.get( 0 ).name );
+					assertNull( results.get( 1 ) );
+					assertEquals( "Simple name 0", results.get( 2 ).name );
+				}
+		);
+	}
+
 	@Entity
 	@Table(name = "DemoEntity")
 	public static class DemoEntity {
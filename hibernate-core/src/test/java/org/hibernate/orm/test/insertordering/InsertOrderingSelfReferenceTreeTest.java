@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts of a self-referencing tree, interleaved with inserts of another
+ * entity, are grouped into one batch per table.
+ */
+public class InsertOrderingSelfReferenceTreeTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Category.class, Product.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testBatching() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Category root = new Category( "root " + i, null );
+				session.persist( root );
+				session.persist( new Product( "product " + i, root ) );
+				final Category child = new Category( "child " + i, root );
+				session.persist( child );
+				session.persist( new Product( "child product " + i, child ) );
+			}
+
+			clearBatches();
+			statistics.clear();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Category (name,parent_id,id) values (?,?,?)", 6 ),
+				new Batch( "insert into Product (category_id,name,id) values (?,?,?)", 6 )
+		);
+		assertThat( statistics.getJdbcBatchCount() ).isEqualTo( 2 );
+		assertThat( statistics.getJdbcBatchRowCount() ).isEqualTo( 12 );
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		@SequenceGenerator(name = "ID", sequenceName = "CATEGORY_SEQ")
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ID")
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Category parent;
+
+		public Category() {
+		}
+
+		public Category(String name, Category parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		@SequenceGenerator(name = "ID", sequenceName = "PRODUCT_SEQ")
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ID")
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Category category;
+
+		public Product() {
+		}
+
+		public Product(String name, Category category) {
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
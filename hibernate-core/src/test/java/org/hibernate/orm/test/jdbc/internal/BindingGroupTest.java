@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the reuse of a {@link BindingGroup} across the rows of a batch.
+ */
+public class BindingGroupTest {
+	private static final String PERSON = "PERSON";
+	private static final String EMPLOYEE = "EMPLOYEE";
+
+	// the groups are reused across rows, as they are by PreparedStatementDetails
+	private final Map<String, BindingGroup> groups = new HashMap<>();
+
+	@Test
+	public void testRowBindingSubsetOfPositions() {
+		final JdbcValueBindings firstRow = bindings();
+		firstRow.bindValue( "Gavin", PERSON, "NAME", ParameterUsage.SET );
+		firstRow.bindValue( 42, PERSON, "AGE", ParameterUsage.SET );
+		firstRow.bindValue( 1L, PERSON, "ID", ParameterUsage.SET );
+		firstRow.bindValue( 1000, EMPLOYEE, "SALARY", ParameterUsage.SET );
+		firstRow.bindValue( 1L, EMPLOYEE, "ID", ParameterUsage.SET );
+
+		assertThat( positions( groups.get( PERSON ) ) ).containsExactly( 1, 2, 3 );
+		assertThat( positions( groups.get( EMPLOYEE ) ) ).containsExactly( 1, 2 );
+
+		// the second row binds no age, and nothing at all for the secondary table
+		final JdbcValueBindings secondRow = bindings();
+		secondRow.bindValue( "Steve", PERSON, "NAME", ParameterUsage.SET );
+		secondRow.bindValue( 2L, PERSON, "ID", ParameterUsage.SET );
+
+		final BindingGroup person = secondRow.getBindingGroup( PERSON );
+		assertThat( person ).isSameAs( groups.get( PERSON ) );
+		assertThat( positions( person ) ).containsExactly( 1, 3 );
+		assertThat( values( person ) ).containsExactly( "Steve", 2L );
+		assertThat( person.getBindings() ).hasSize( 2 );
+		assertThat( secondRow.getBindingGroup( EMPLOYEE ) ).isNull();
+	}
+
+	@Test
+	public void testRowFailingMidway() {
+		final JdbcValueBindings failedRow = bindings();
+		failedRow.bindValue( "Gavin", PERSON, "NAME", ParameterUsage.SET );
+		failedRow.bindValue( 42, PERSON, "AGE", ParameterUsage.SET );
+		assertThatThrownBy( () -> failedRow.bindValue( 1L, PERSON, "UNKNOWN", ParameterUsage.SET ) )
+				.isInstanceOf( IllegalArgumentException.class );
+
+		// the group still holds the bindings of the failed row until it is reused
+		assertThat( positions( groups.get( PERSON ) ) ).containsExactly( 1, 2 );
+
+		final JdbcValueBindings nextRow = bindings();
+		nextRow.bindValue( 2L, PERSON, "ID", ParameterUsage.SET );
+
+		final BindingGroup person = nextRow.getBindingGroup( PERSON );
+		assertThat( person ).isSameAs( groups.get( PERSON ) );
+		assertThat( positions( person ) ).containsExactly( 3 );
+		assertThat( values( person ) ).containsExactly( 2L );
+		assertThat( person.getBindings() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testOutOfOrderPositions() {
+		final BindingGroup group = new BindingGroup( PERSON );
+		group.bindValue( "ID", 1L, descriptor( "ID", 3 ) );
+		group.bindValue( "NAME", "Gavin", descriptor( "NAME", 1 ) );
+		group.bindValue( "AGE", 42, descriptor( "AGE", 2 ) );
+		// the first binding of a position wins
+		group.bindValue( "NAME", "Steve", descriptor( "NAME", 1 ) );
+
+		assertThat( positions( group ) ).containsExactly( 1, 2, 3 );
+		assertThat( values( group ) ).containsExactly( "Gavin", 42, 1L );
+		assertThat( group.getBindings() ).hasSize( 3 );
+
+		final List<Integer> visited = new ArrayList<>();
+		group.forEachBinding( binding -> visited.add( binding.getPosition() ) );
+		assertThat( visited ).containsExactly( 1, 2, 3 );
+
+		group.clear();
+		assertThat( group.getBindings() ).isEmpty();
+		group.bindValue( "AGE", 43, descriptor( "AGE", 2 ) );
+		assertThat( positions( group ) ).containsExactly( 2 );
+	}
+
+	private JdbcValueBindings bindings() {
+		return new JdbcValueBindingsImpl(
+				MutationType.INSERT,
+				null,
+				new JdbcValueBindingsImpl.JdbcValueDescriptorAccess() {
+					@Override
+					public JdbcValueDescriptor resolveValueDescriptor(
+							String tableName,
+							String columnName,
+							ParameterUsage usage) {
+						return descriptor( columnName, position( tableName, columnName ) );
+					}
+
+					@Override
+					public BindingGroup resolveBindingGroup(String tableName) {
+						return groups.computeIfAbsent( tableName, BindingGroup::new );
+					}
+				},
+				null
+		);
+	}
+
+	private static int position(String tableName, String columnName) {
+		switch ( tableName + "." + columnName ) {
+			case "PERSON.NAME":
+			case "EMPLOYEE.SALARY":
+				return 1;
+			case "PERSON.AGE":
+			case "EMPLOYEE.ID":
+				return 2;
+			case "PERSON.ID":
+				return 3;
+			default:
+				throw new IllegalArgumentException( "Unknown column : " + columnName );
+		}
+	}
+
+	private static JdbcValueDescriptor descriptor(String columnName, int position) {
+		return new JdbcValueDescriptor() {
+			@Override
+			public String getColumnName() {
+				return columnName;
+			}
+
+			@Override
+			public ParameterUsage getUsage() {
+				return ParameterUsage.SET;
+			}
+
+			@Override
+			public int getJdbcPosition() {
+				return position;
+			}
+
+			@Override
+			public JdbcMapping getJdbcMapping() {
+				return null;
+			}
+		};
+	}
+
+	private static List<Integer> positions(BindingGroup group) {
+		final List<Integer> positions = new ArrayList<>();
+		for ( Binding binding : group.getBindings() ) {
+			positions.add( binding.getPosition() );
+		}
+		return positions;
+	}
+
+	private static List<Object> values(BindingGroup group) {
+		final List<Object> values = new ArrayList<>();
+		for ( Binding binding : group.getBindings() ) {
+			values.add( binding.getValue() );
+		}
+		return values;
+	}
+}
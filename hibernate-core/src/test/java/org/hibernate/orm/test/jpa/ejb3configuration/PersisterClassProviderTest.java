@@ -437,7 +437,7 @@ public class PersisterClassProviderTest {
 		}
 
 		@Override
-		public List multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+		public List multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
 			return Collections.emptyList();
 		}
 
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that an internal load of an entity which is already being loaded by
+ * an enclosing load attaches to that load, rather than selecting the entity again.
+ */
+@DomainModel(annotatedClasses = {
+		ReentrantLoadDeduplicationTest.Author.class,
+		ReentrantLoadDeduplicationTest.Publisher.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class ReentrantLoadDeduplicationTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1 );
+			final Publisher publisher = new Publisher( 2 );
+			author.publisher = publisher;
+			publisher.author = author;
+			session.persist( publisher );
+			session.persist( author );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Publisher set author = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testReentrantProxyInitializationAttachesToLoadInProgress(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final ReentrantLoadingInterceptor interceptor = new ReentrantLoadingInterceptor( true );
+		scope.getSessionFactory().getStatistics().clear();
+		statementInspector.clear();
+
+		try (Session session = scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession()) {
+			interceptor.session = session;
+
+			final Author author = session.get( Author.class, 1 );
+
+			// a proxy for the author was initialized while loading its publisher
+			assertThat( Hibernate.unproxy( interceptor.reentrantlyLoaded ) ).isSameAs( Hibernate.unproxy( author ) );
+		}
+
+		// the author and its publisher, but not the author again
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		assertThat( scope.getSessionFactory().getStatistics().getDeduplicatedEntityLoadCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReentrantGetDoesNotAttachToLoadInProgress(SessionFactoryScope scope) {
+		final ReentrantLoadingInterceptor interceptor = new ReentrantLoadingInterceptor( false );
+		scope.getSessionFactory().getStatistics().clear();
+
+		try (Session session = scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession()) {
+			interceptor.session = session;
+			session.get( Author.class, 1 );
+		}
+
+		// a top-level get() requested by the application is never attached
+		assertThat( scope.getSessionFactory().getStatistics().getDeduplicatedEntityLoadCount() ).isEqualTo( 0 );
+	}
+
+	private static class ReentrantLoadingInterceptor implements Interceptor {
+		private final boolean initializeProxy;
+		private Session session;
+		private Object reentrantlyLoaded;
+
+		private ReentrantLoadingInterceptor(boolean initializeProxy) {
+			this.initializeProxy = initializeProxy;
+		}
+
+		@Override
+		public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+			if ( entity instanceof Publisher ) {
+				if ( initializeProxy ) {
+					reentrantlyLoaded = session.getReference( Author.class, 1 );
+					Hibernate.initialize( reentrantlyLoaded );
+				}
+				else {
+					reentrantlyLoaded = session.get( Author.class, 1 );
+				}
+			}
+			return false;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		private Publisher publisher;
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a multi-load by array parameter looks up all the requested
+ * entities in the second-level cache at once, and only queries the misses.
+ */
+@DomainModel(annotatedClasses = MultiLoadSecondLevelCacheMissesTest.Event.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class MultiLoadSecondLevelCacheMissesTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Event( i, "text" + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( Event.class, 2 );
+		scope.getSessionFactory().getCache().evictEntityData( Event.class, 5 );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getCollectingStatementInspector().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Event" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inSession( session -> {
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 6, 5, 4, 3, 2, 1 );
+
+			assertThat( events ).extracting( Event::getId ).containsExactly( 6, 5, 4, 3, 2, 1 );
+			assertThat( events ).extracting( Event::getText )
+					.containsExactly( "text6", "text5", "text4", "text3", "text2", "text1" );
+		} );
+
+		assertMissesOnlyWereQueried( scope, statementInspector );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inSession( session -> {
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( 1, 2, 3, 4, 5, 6 );
+
+			assertThat( events ).extracting( Event::getId ).containsExactlyInAnyOrder( 1, 2, 3, 4, 5, 6 );
+		} );
+
+		assertMissesOnlyWereQueried( scope, statementInspector );
+	}
+
+	private static void assertMissesOnlyWereQueried(
+			SessionFactoryScope scope,
+			SQLStatementInspector statementInspector) {
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Event")
+	@Cacheable
+	public static class Event {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.fetch.subselect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.FetchMode.SUBSELECT;
+
+/**
+ * Tests that the elements of a sub-select fetched collection which were already associated
+ * with the session, and so were not loaded by the sub-select, still take part in the nested
+ * sub-select fetch of their own collections.
+ */
+@DomainModel( annotatedClasses = {
+		NestedSubSelectFetchManagedElementsTest.Customer.class,
+		NestedSubSelectFetchManagedElementsTest.Order.class,
+		NestedSubSelectFetchManagedElementsTest.LineItem.class
+})
+@SessionFactory( useCollectingStatementInspector = true )
+public class NestedSubSelectFetchManagedElementsTest {
+
+	@Test
+	public void testManagedElementTakesPartInNestedSubSelect(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( (session) -> {
+			// loaded before sub-select fetching is enabled, and so not registered for it
+			final Order managed = session.find( Order.class, 11 );
+			session.setSubselectFetchingEnabled( true );
+
+			// the customer of the managed order is a proxy
+			final List<Customer> customers = session.createSelectionQuery( "from Customer order by id", Customer.class )
+					.getResultList()
+					.stream()
+					.map( customer -> Hibernate.unproxy( customer, Customer.class ) )
+					.toList();
+			Hibernate.initialize( customers.get( 0 ).orders );
+			assertThat( customers ).allMatch( customer -> Hibernate.isInitialized( customer.orders ) );
+			assertThat( customers.get( 0 ).orders ).contains( managed );
+
+			statementInspector.clear();
+			Hibernate.initialize( managed.lineItems );
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			for ( Customer customer : customers ) {
+				for ( Order order : customer.orders ) {
+					assertThat( Hibernate.isInitialized( order.lineItems ) ).isTrue();
+				}
+			}
+			assertThat( managed.lineItems ).hasSize( 3 );
+		} );
+	}
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer john = new Customer( 1, "John" );
+			final Customer sally = new Customer( 2, "Sally" );
+
+			final Order johnFirst = new Order( 10, john );
+			new LineItem( 100, johnFirst );
+
+			final Order johnSecond = new Order( 11, john );
+			new LineItem( 110, johnSecond );
+			new LineItem( 111, johnSecond );
+			new LineItem( 112, johnSecond );
+
+			final Order sallyFirst = new Order( 20, sally );
+			new LineItem( 200, sallyFirst );
+
+			session.persist( john );
+			session.persist( sally );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from LineItem" ).executeUpdate();
+			session.createMutationQuery( "delete from Order" ).executeUpdate();
+			session.createMutationQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	@Table( name = "customers" )
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "customer", fetch = LAZY, cascade = CascadeType.ALL )
+		@Fetch( SUBSELECT )
+		private List<Order> orders = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Order" )
+	@Table( name = "orders" )
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne( fetch = LAZY )
+		@JoinColumn( name = "customer_fk" )
+		private Customer customer;
+
+		@OneToMany( mappedBy = "order", fetch = LAZY, cascade = CascadeType.ALL )
+		private List<LineItem> lineItems = new ArrayList<>();
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+			customer.orders.add( this );
+		}
+	}
+
+	@Entity( name = "LineItem" )
+	@Table( name = "line_items" )
+	public static class LineItem {
+		@Id
+		private Integer id;
+
+		@ManyToOne( fetch = LAZY )
+		@JoinColumn( name = "order_fk" )
+		private Order order;
+
+		public LineItem() {
+		}
+
+		public LineItem(Integer id, Order order) {
+			this.id = id;
+			this.order = order;
+			order.lineItems.add( this );
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.NaturalIdMultiLoadAccess#preloadResolutions}
+ * and {@link AvailableSettings#NATURAL_ID_MISS_CACHE_TTL}
+ */
+@DomainModel(annotatedClasses = NaturalIdPreloadAndMissCacheTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.NATURAL_ID_MISS_CACHE_TTL, value = "60000"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class NaturalIdPreloadAndMissCacheTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Book( i, "isbn-" + i ) );
+			}
+		} );
+		scope.getCollectingStatementInspector().clear();
+	}
+
+	@AfterEach
+	public void releaseTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictNaturalIdData();
+	}
+
+	@Test
+	public void testPreloadResolutions(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.byMultipleNaturalId( Book.class )
+					.preloadResolutions( "isbn-1", "isbn-2", "isbn-3", "isbn-4", "isbn-5", "missing" );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+			statementInspector.clear();
+			for ( int i = 1; i <= 5; i++ ) {
+				final Book book = session.bySimpleNaturalId( Book.class ).getReference( "isbn-" + i );
+				assertThat( book ).isNotNull();
+			}
+			assertThat( session.bySimpleNaturalId( Book.class ).getReference( "missing" ) ).isNull();
+			assertThat( statementInspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testMissIsRemembered(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "missing" ) ).isNull();
+		} );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "missing" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Book.class ).getReference( "missing" ) ).isNull();
+		} );
+		assertThat( statementInspector.getSqlQueries() ).isEmpty();
+
+		scope.inTransaction( session -> {
+			session.setCacheMode( CacheMode.IGNORE );
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "missing" ) ).isNull();
+		} );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testInsertForgetsMiss(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "isbn-6" ) ).isNull();
+		} );
+
+		scope.inTransaction( session -> session.persist( new Book( 6, "isbn-6" ) ) );
+
+		scope.inTransaction( session -> {
+			final Book book = session.bySimpleNaturalId( Book.class ).load( "isbn-6" );
+			assertThat( book ).isNotNull();
+			assertThat( book.id ).isEqualTo( 6 );
+		} );
+	}
+
+	@Test
+	public void testEvictForgetsMiss(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "isbn-6" ) ).isNull();
+		} );
+
+		// inserted behind the back of the SessionFactory
+		scope.inTransaction( session -> session.createNativeMutationQuery(
+				"insert into Book (id, isbn) values (6, 'isbn-6')" ).executeUpdate() );
+
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "isbn-6" ) ).isNull();
+		} );
+
+		scope.getSessionFactory().getCache().evictAll();
+
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "isbn-6" ) ).isNotNull();
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String isbn;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String isbn) {
+			this.id = id;
+			this.isbn = isbn;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests that {@link PersistenceContext#reentrantSafeEntityEntries()} is kept consistent
+ * while being maintained incrementally.
+ */
+@DomainModel(annotatedClasses = ReentrantSafeEntityEntriesTest.Item.class)
+@SessionFactory
+public class ReentrantSafeEntityEntriesTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntriesAreReusedAcrossSnapshots(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Item first = new Item( 1L );
+			final Item second = new Item( 2L );
+			session.persist( first );
+			session.persist( second );
+
+			final Map.Entry<Object, EntityEntry>[] initial = persistenceContext.reentrantSafeEntityEntries();
+			assertEquals( 2, initial.length );
+			// unchanged context, same snapshot
+			assertSame( initial, persistenceContext.reentrantSafeEntityEntries() );
+
+			final Item third = new Item( 3L );
+			session.persist( third );
+
+			final Map.Entry<Object, EntityEntry>[] appended = persistenceContext.reentrantSafeEntityEntries();
+			assertEquals( 3, appended.length );
+			assertSame( initial[0], appended[0] );
+			assertSame( initial[1], appended[1] );
+			assertSame( third, appended[2].getKey() );
+		} );
+	}
+
+	@Test
+	public void testRemovedAndReaddedEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Item first = new Item( 1L );
+			final Item second = new Item( 2L );
+			final Item third = new Item( 3L );
+			session.persist( first );
+			session.persist( second );
+			session.persist( third );
+			session.flush();
+
+			final Map.Entry<Object, EntityEntry>[] initial = persistenceContext.reentrantSafeEntityEntries();
+			assertEquals( 3, initial.length );
+
+			session.detach( second );
+			session.detach( third );
+
+			final Map.Entry<Object, EntityEntry>[] afterRemoval = persistenceContext.reentrantSafeEntityEntries();
+			assertEquals( 1, afterRemoval.length );
+			assertSame( initial[0], afterRemoval[0] );
+
+			final Item reattached = session.find( Item.class, 2L );
+			final Item fourth = new Item( 4L );
+			session.persist( fourth );
+
+			final Map.Entry<Object, EntityEntry>[] afterAddition = persistenceContext.reentrantSafeEntityEntries();
+			assertEquals( 3, afterAddition.length );
+			assertSame( initial[0], afterAddition[0] );
+			assertSame( reattached, afterAddition[1].getKey() );
+			assertSame( persistenceContext.getEntry( reattached ), afterAddition[1].getValue() );
+			assertSame( fourth, afterAddition[2].getKey() );
+
+			session.clear();
+			assertEquals( 0, persistenceContext.reentrantSafeEntityEntries().length );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id) {
+			this.id = id;
+			this.name = "item " + id;
+		}
+	}
+}
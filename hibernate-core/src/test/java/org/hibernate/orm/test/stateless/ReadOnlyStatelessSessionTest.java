@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SessionFactory
+@DomainModel(annotatedClasses = { ReadOnlyStatelessSessionTest.Book.class, ReadOnlyStatelessSessionTest.Publisher.class })
+@ServiceRegistry(settings = @Setting(name = GENERATE_STATISTICS, value = "true"))
+public class ReadOnlyStatelessSessionTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			final Publisher publisher = new Publisher( 1L, "Manning" );
+			session.insert( publisher );
+			final Book book = new Book( 1L, "Hibernate in Action" );
+			book.publisher = publisher;
+			session.insert( book );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testIdentityMap(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true )
+				.openStatelessSession()) {
+			assertTrue( ( (SharedSessionContractImplementor) session ).isDefaultReadOnly() );
+			final Book book = session.get( Book.class, 1L );
+			assertSame( book, session.get( Book.class, 1L ) );
+			assertEquals( 1, statistics.getEntityLoadCount() );
+			// an explicit lock mode always goes to the database
+			assertNotSame( book, session.get( Book.class, 1L, LockMode.READ ) );
+			assertEquals( 2, statistics.getEntityLoadCount() );
+			// nothing is remembered for missing entities
+			assertNull( session.get( Book.class, 2L ) );
+		}
+	}
+
+	@Test
+	public void testAssociationsResolvedByIdentityMap(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true )
+				.openStatelessSession()) {
+			final Publisher publisher = session.get( Publisher.class, 1L );
+			// the association is resolved to the instance already obtained, instead of a proxy
+			assertSame( publisher, session.get( Book.class, 1L ).publisher );
+			assertEquals( 2, statistics.getEntityLoadCount() );
+		}
+
+		statistics.clear();
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true )
+				.openStatelessSession()) {
+			final Book book = session.get( Book.class, 1L );
+			assertFalse( Hibernate.isInitialized( book.publisher ) );
+			final Publisher publisher = session.get( Publisher.class, 1L );
+			// fetching the proxy does not repeat the query
+			session.fetch( book.publisher );
+			assertTrue( Hibernate.isInitialized( book.publisher ) );
+			assertSame( publisher, Hibernate.unproxy( book.publisher ) );
+			assertEquals( 2, statistics.getEntityLoadCount() );
+		}
+	}
+
+	@Test
+	public void testNoIdentityMapByDefault(SessionFactoryScope scope) {
+		scope.inStatelessSession( session -> assertNotSame(
+				session.get( Book.class, 1L ),
+				session.get( Book.class, 1L )
+		) );
+	}
+
+	@Test
+	public void testMutationsRejected(SessionFactoryScope scope) {
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true )
+				.openStatelessSession()) {
+			final Book book = session.get( Book.class, 1L );
+			book.title = "Java Persistence with Hibernate";
+			assertThrows( UnsupportedOperationException.class, () -> session.update( book ) );
+			assertThrows( UnsupportedOperationException.class, () -> session.upsert( book ) );
+			assertThrows( UnsupportedOperationException.class, () -> session.delete( book ) );
+			assertThrows( UnsupportedOperationException.class, () -> session.insert( new Book( 2L, "Other" ) ) );
+		}
+	}
+
+	@Test
+	public void testMutationQueriesRejected(SessionFactoryScope scope) {
+		try (StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true )
+				.openStatelessSession()) {
+			session.getTransaction().begin();
+			assertThrows( UnsupportedOperationException.class, () -> session
+					.createMutationQuery( "update Book set title = 'Other'" )
+					.executeUpdate() );
+			assertThrows( UnsupportedOperationException.class, () -> session
+					.createNativeMutationQuery( "delete from Book" )
+					.executeUpdate() );
+			session.getTransaction().rollback();
+		}
+		scope.inStatelessTransaction( session -> assertEquals( "Hibernate in Action", session.get( Book.class, 1L ).title ) );
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	static class Publisher {
+		@Id
+		Long id;
+		String name;
+
+		Publisher() {
+		}
+
+		Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
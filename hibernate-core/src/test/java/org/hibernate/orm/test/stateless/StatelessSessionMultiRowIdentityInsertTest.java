@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple(List)} with
+ * {@linkplain GenerationType#IDENTITY identity} columns and
+ * {@link AvailableSettings#BATCH_MULTI_ROW_INSERTS} enabled.
+ */
+@DomainModel(annotatedClasses = StatelessSessionMultiRowIdentityInsertTest.Event.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+public class StatelessSessionMultiRowIdentityInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.createMutationQuery( "delete from Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testIdentifiersAssigned(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		final List<Event> events = new ArrayList<>();
+		for ( int i = 0; i < 15; i++ ) {
+			events.add( new Event( "event " + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( events ) );
+
+		Long previous = null;
+		for ( Event event : events ) {
+			assertNotNull( event.id );
+			if ( previous != null ) {
+				// identity values are assigned in the order of the rows
+				assertTrue( event.id > previous );
+			}
+			previous = event.id;
+		}
+
+		final long inserts = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().contains( "insert" ) )
+				.count();
+		if ( scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Event.class )
+				.getInsertCoordinator()
+				.supportsInsertMultiple() ) {
+			assertEquals( 1, inserts );
+		}
+		else {
+			assertEquals( 15, inserts );
+		}
+
+		scope.inStatelessSession( session -> {
+			for ( Event event : events ) {
+				assertEquals( event.name, session.get( Event.class, event.id ).name );
+			}
+		} );
+	}
+
+	@Entity(name = "Event")
+	static class Event {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String name;
+
+		Event() {
+		}
+
+		Event(String name) {
+			this.name = name;
+		}
+	}
+}
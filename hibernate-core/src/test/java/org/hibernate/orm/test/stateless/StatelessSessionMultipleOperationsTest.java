@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple(List)} and friends.
+ */
+@DomainModel(annotatedClasses = StatelessSessionMultipleOperationsTest.LogEntry.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"))
+@SessionFactory
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.createMutationQuery( "delete from LogEntry" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertUpdateDeleteMultiple(SessionFactoryScope scope) {
+		final List<LogEntry> entries = new ArrayList<>();
+		for ( long i = 1; i <= 20; i++ ) {
+			entries.add( new LogEntry( i, "entry " + i ) );
+		}
+
+		scope.inStatelessTransaction( session -> {
+			session.insertMultiple( entries );
+			// everything has been written when the method returns
+			assertEquals(
+					20L,
+					session.createSelectionQuery( "select count(*) from LogEntry", Long.class ).getSingleResult()
+			);
+		} );
+
+		for ( LogEntry entry : entries ) {
+			entry.name = "updated " + entry.id;
+		}
+		scope.inStatelessTransaction( session -> {
+			session.updateMultiple( entries );
+			assertEquals(
+					20L,
+					session.createSelectionQuery( "select count(*) from LogEntry where name like 'updated%'", Long.class )
+							.getSingleResult()
+			);
+		} );
+
+		scope.inStatelessTransaction( session -> {
+			session.deleteMultiple( entries.subList( 0, 10 ) );
+			assertEquals(
+					10L,
+					session.createSelectionQuery( "select count(*) from LogEntry", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testGetMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of(
+				new LogEntry( 1L, "first" ),
+				new LogEntry( 2L, "second" ),
+				new LogEntry( 3L, "third" )
+		) ) );
+
+		scope.inStatelessSession( session -> {
+			final List<LogEntry> entries = session.getMultiple( LogEntry.class, List.of( 3L, 4L, 1L ) );
+			assertEquals( 3, entries.size() );
+			assertEquals( "third", entries.get( 0 ).name );
+			assertNull( entries.get( 1 ) );
+			assertEquals( "first", entries.get( 2 ).name );
+
+			final List<Long> ids = new ArrayList<>();
+			ids.add( null );
+			assertThrows( IllegalArgumentException.class, () -> session.getMultiple( LogEntry.class, ids ) );
+		} );
+	}
+
+	@Test
+	public void testGetMultipleManyIds(SessionFactoryScope scope) {
+		// more ids than the parameter limit of some databases
+		final List<LogEntry> entries = new ArrayList<>();
+		final List<Long> ids = new ArrayList<>();
+		for ( long i = 1; i <= 2500; i++ ) {
+			entries.add( new LogEntry( i, "entry " + i ) );
+			ids.add( 2501 - i );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( entries ) );
+
+		scope.inStatelessSession( session -> {
+			final List<LogEntry> loaded = session.getMultiple( LogEntry.class, ids );
+			assertEquals( 2500, loaded.size() );
+			for ( int i = 0; i < ids.size(); i++ ) {
+				assertEquals( ids.get( i ), loaded.get( i ).id );
+			}
+		} );
+	}
+
+	@Test
+	public void testGetMultipleIgnoresFilters(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of(
+				new LogEntry( 1L, "first" ),
+				new LogEntry( 2L, "second" )
+		) ) );
+
+		scope.inStatelessSession( session -> {
+			session.enableFilter( "firstOnly" );
+			// like get(), getMultiple() does not apply the filter
+			final List<LogEntry> entries = session.getMultiple( LogEntry.class, List.of( 1L, 2L ) );
+			assertEquals( "first", entries.get( 0 ).name );
+			assertEquals( "second", entries.get( 1 ).name );
+			assertEquals( "second", session.get( LogEntry.class, 2L ).name );
+		} );
+	}
+
+	@Entity(name = "LogEntry")
+	@FilterDef(name = "firstOnly", defaultCondition = "name = 'first'")
+	@Filter(name = "firstOnly")
+	static class LogEntry {
+		@Id
+		Long id;
+		String name;
+
+		LogEntry() {
+		}
+
+		LogEntry(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#upsertMultiple}, with the rows
+ * of each batch merged by a single {@code merge} statement.
+ */
+@DomainModel(annotatedClasses = UpsertMultipleTest.Greeting.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class UpsertMultipleTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Greeting" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUpsertsAreMerged(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inStatelessTransaction( session -> session.upsertMultiple( List.of(
+				new Greeting( 1L, "hello earth" ),
+				new Greeting( 2L, "hello mars" ),
+				new Greeting( 3L, "hello venus" )
+		) ) );
+
+		assertEquals( List.of( 3 ), merges( statementInspector ) );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.upsertMultiple( List.of(
+				new Greeting( 1L, "goodbye earth" ),
+				new Greeting( 4L, "hello jupiter" ),
+				new Greeting( 1L, "hello again earth" )
+		) ) );
+
+		// the same row may not be merged twice by one statement
+		assertEquals( List.of( 2, 1 ), merges( statementInspector ) );
+
+		scope.inStatelessTransaction( session -> {
+			assertEquals( "hello again earth", session.get( Greeting.class, 1L ).message );
+			assertEquals( "hello mars", session.get( Greeting.class, 2L ).message );
+			assertEquals( "hello jupiter", session.get( Greeting.class, 4L ).message );
+		} );
+	}
+
+	@Test
+	public void testUpsertAfterUpdate(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insert( new Greeting( 1L, "hello earth" ) ) );
+
+		// the update and the upsert are not batched together
+		scope.inStatelessTransaction( session -> {
+			session.update( new Greeting( 1L, "goodbye earth" ) );
+			session.upsert( new Greeting( 2L, "hello mars" ) );
+		} );
+
+		scope.inStatelessTransaction( session -> {
+			assertEquals( "goodbye earth", session.get( Greeting.class, 1L ).message );
+			assertEquals( "hello mars", session.get( Greeting.class, 2L ).message );
+		} );
+	}
+
+	private static List<Integer> merges(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "merge" ) )
+				.map( sql -> sql.split( " union all " ).length )
+				.toList();
+	}
+
+	@Entity(name = "Greeting")
+	public static class Greeting {
+		@Id
+		private Long id;
+
+		private String message;
+
+		public Greeting() {
+		}
+
+		public Greeting(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+}
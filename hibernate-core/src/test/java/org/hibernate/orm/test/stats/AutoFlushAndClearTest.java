@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.SessionBuilder#autoFlushAndClear(int)}.
+ */
+@DomainModel(annotatedClasses = AutoFlushAndClearTest.BatchEvent.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class AutoFlushAndClearTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from BatchEvent" ).executeUpdate() );
+	}
+
+	@Test
+	public void testThresholdTriggersFlushAndClear(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		try (Session session = scope.getSessionFactory().withOptions().autoFlushAndClear( 10 ).openSession()) {
+			session.getTransaction().begin();
+			BatchEvent event = null;
+			for ( long i = 1; i <= 25; i++ ) {
+				event = new BatchEvent( i );
+				session.persist( event );
+				assertTrue( session.unwrap( SessionImplementor.class )
+									.getPersistenceContextInternal()
+									.getNumberOfManagedEntities() <= 10 );
+				// the entity just persisted is never detached
+				assertTrue( session.contains( event ) );
+			}
+			// 20 entities were flushed and detached
+			assertEquals( 5, session.unwrap( SessionImplementor.class )
+					.getPersistenceContextInternal()
+					.getNumberOfManagedEntities() );
+			session.getTransaction().commit();
+		}
+
+		assertEquals( 2, statistics.getAutoFlushAndClearCount() );
+		scope.inTransaction( session -> assertEquals(
+				25L,
+				session.createSelectionQuery( "select count(*) from BatchEvent", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testMergeDoesNotFlushAndClear(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		try (Session session = scope.getSessionFactory().withOptions().autoFlushAndClear( 2 ).openSession()) {
+			session.getTransaction().begin();
+			for ( long i = 1; i <= 5; i++ ) {
+				final BatchEvent merged = session.merge( new BatchEvent( i ) );
+				assertTrue( session.contains( merged ) );
+			}
+			session.getTransaction().commit();
+		}
+
+		assertEquals( 0, statistics.getAutoFlushAndClearCount() );
+	}
+
+	@Test
+	public void testNoTransactionNoFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		try (Session session = scope.getSessionFactory().withOptions().autoFlushAndClear( 2 ).openSession()) {
+			final BatchEvent first = new BatchEvent( 1L );
+			final BatchEvent second = new BatchEvent( 2L );
+			session.persist( first );
+			session.persist( second );
+			assertTrue( session.contains( first ) );
+			assertTrue( session.contains( second ) );
+		}
+
+		assertEquals( 0, statistics.getAutoFlushAndClearCount() );
+	}
+
+	@Test
+	public void testDisabledByDefault(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 25; i++ ) {
+				session.persist( new BatchEvent( i ) );
+			}
+			assertFalse( session.getPersistenceContextInternal().getNumberOfManagedEntities() < 25 );
+		} );
+
+		assertEquals( 0, statistics.getAutoFlushAndClearCount() );
+	}
+
+	@Entity(name = "BatchEvent")
+	public static class BatchEvent {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public BatchEvent() {
+		}
+
+		public BatchEvent(Long id) {
+			this.id = id;
+			this.name = "event " + id;
+		}
+	}
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -38,6 +42,17 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Set<Object> keySet = new HashSet<>( Arrays.asList( keys ) );
+		final Map<Object, Object> cached = underlyingCache.getAll( keySet );
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = cached.get( keys[i] );
+		}
+		return values;
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );